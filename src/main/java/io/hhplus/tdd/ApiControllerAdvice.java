@@ -1,5 +1,9 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.InvalidAmountException;
+import io.hhplus.tdd.point.exception.InvalidUserException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +11,16 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = {InvalidUserException.class, InvalidAmountException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequest(RuntimeException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = {InsufficientPointException.class, PointLimitExceededException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(RuntimeException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
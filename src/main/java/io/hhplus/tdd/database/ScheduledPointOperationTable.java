@@ -0,0 +1,86 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.schedule.ScheduleType;
+import io.hhplus.tdd.point.schedule.ScheduledPointOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 대기 중인 예약 작업을 보관합니다.
+ * 실행이 끝나거나 취소된 작업은 삭제됩니다. 스냅샷 export/import 로 재기동 사이에 유지됩니다.
+ */
+@Component
+public class ScheduledPointOperationTable {
+    private final Map<Long, ScheduledPointOperation> table = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> idsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    public ScheduledPointOperation insert(long userId, long amount, ScheduleType type, long executeAtMillis, long linkedId) {
+        ScheduledPointOperation operation = new ScheduledPointOperation(cursor.getAndIncrement(), userId, amount, type, executeAtMillis, linkedId);
+        put(operation);
+        return operation;
+    }
+
+    public ScheduledPointOperation selectById(long id) {
+        return table.get(id);
+    }
+
+    /**
+     * 남아 있는 작업만 갱신 (삭제된 작업은 되살리지 않음)
+     */
+    public boolean update(ScheduledPointOperation operation) {
+        return table.replace(operation.id(), operation) != null;
+    }
+
+    public boolean delete(long id) {
+        ScheduledPointOperation removed = table.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        idsByUser.computeIfPresent(removed.userId(), (userId, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+        return true;
+    }
+
+    public List<ScheduledPointOperation> selectAll() {
+        return List.copyOf(table.values());
+    }
+
+    public List<ScheduledPointOperation> selectAllByUserId(long userId) {
+        return idsByUser.getOrDefault(userId, Set.of()).stream()
+                .map(table::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 스냅샷의 작업을 id 그대로 복원
+     */
+    public void restore(Collection<ScheduledPointOperation> operations) {
+        long maxId = 0;
+        for (ScheduledPointOperation operation : operations) {
+            put(operation);
+            maxId = Math.max(maxId, operation.id());
+        }
+        long nextId = maxId + 1;
+        cursor.accumulateAndGet(nextId, Math::max);
+    }
+
+    private void put(ScheduledPointOperation operation) {
+        idsByUser.compute(operation.userId(), (userId, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(operation.id());
+            return target;
+        });
+        table.put(operation.id(), operation);
+    }
+}
@@ -1,14 +1,23 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.event.PointEventStream;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
 import io.hhplus.tdd.point.exception.InvalidAmountException;
 import io.hhplus.tdd.point.exception.InvalidUserException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.schedule.PointGrantLedger;
+import io.hhplus.tdd.point.schedule.ScheduledPointOperation;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -16,8 +25,13 @@ import java.util.concurrent.locks.ReentrantLock;
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
+
     private final Map<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+    private final Map<Long, BalanceHint> balanceHints = new ConcurrentHashMap<>();
     private final PointRepository pointRepository;
+    private final PointEventStream pointEventStream;
+    private final PointGrantLedger pointGrantLedger;
 
     public UserPoint getPoint(long userId) {
         if(userId < 0) {
@@ -34,16 +48,17 @@ public class PointService {
     }
 
     public UserPoint charge(long userId, long point) {
-        // 음수 여부 체크
-        if(point < 0) {
-            throw new InvalidAmountException("Invalid amount. Amount must be greater than 0. Requested amount: " + point);
-        }
+        validate(userId, point);
 
         // 1회 충전 금액이 1,000,000을 초과 여부 체크
         if (point > 1_000_000) {
             throw new InvalidAmountException("Max allowed charge is 1,000,000.");
         }
 
+        // 커밋 전까지 충전 금액을 잔액 힌트에 더해 두어 힌트가 실제 잔액보다 작아지지 않도록 함
+        final BalanceHint hint = balanceHints.computeIfAbsent(userId, id -> new BalanceHint());
+        hint.pendingCharges.addAndGet(point);
+
         // 사용자별 락을 생성 또는 조회
         final Lock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
         lock.lock();    // 락 획득
@@ -57,21 +72,32 @@ public class PointService {
             // 총 포인트가 10,000,000을 초과
             long totalPoints = getPoint.point() + point;
             if (totalPoints > 10_000_000) {
-                throw new InvalidAmountException("Total points exceed the limit of 10,000,000.");
+                throw new PointLimitExceededException("Total points exceed the limit of 10,000,000.");
             }
             UserPoint userPoint = pointRepository.insertOrUpdate(getPoint.id(), getPoint.point() + point);  // 포인트 충전
-            pointRepository.insertHistory(userId, point, TransactionType.CHARGE, System.currentTimeMillis());     // 충전 내역 조회
+            hint.committed = totalPoints;  // 잔액 힌트 갱신
+            PointHistory history = pointRepository.insertHistory(userId, point, TransactionType.CHARGE, System.currentTimeMillis());     // 충전 내역 조회
+            pointEventStream.publish(history);  // 변경 이벤트 발행
 
             return userPoint;
         } finally {
             lock.unlock();  // 락 해제
+            hint.pendingCharges.addAndGet(-point);
         }
     }
 
     public UserPoint use(long userId, long point) {
-        // 음수 여부 체크
-        if(point < 0) {
-            throw new InvalidAmountException("Invalid amount. Amount must be greater than 0. Requested amount: " + point);
+        validate(userId, point);
+
+        // 최대 잔액을 넘는 사용은 잔액과 무관하게 불가능한 입력
+        if (point > 10_000_000) {
+            throw new InvalidAmountException("Max allowed use is 10,000,000.");
+        }
+
+        // 잔액 힌트로도 부족하면 락 획득과 조회 없이 거절
+        final BalanceHint hint = balanceHints.get(userId);
+        if (hint != null && hint.cannotCover(point)) {
+            throw new InsufficientPointException("Insufficient points. Requested: " + point);
         }
 
         // 사용자별 락을 생성 또는 조회
@@ -85,14 +111,186 @@ public class PointService {
             }
             // 잔액 체크
             if (getPoint.point() < point) {
-                throw new InvalidAmountException("Insufficient points. Available: " + getPoint.point() + ", Requested: " + point);
+                balanceHints.computeIfAbsent(userId, id -> new BalanceHint()).committed = getPoint.point();  // 다음 요청은 락 없이 거절되도록 힌트 기록
+                throw new InsufficientPointException("Insufficient points. Available: " + getPoint.point() + ", Requested: " + point);
             }
             UserPoint updatePoint = pointRepository.insertOrUpdate(getPoint.id(), getPoint.point() - point);    // 포인트 사용
-            pointRepository.insertHistory(userId, point, TransactionType.USE, System.currentTimeMillis());            // 충전 내역 조회
+            balanceHints.computeIfAbsent(userId, id -> new BalanceHint()).committed = getPoint.point() - point;  // 잔액 힌트 갱신
+            pointGrantLedger.consume(userId, point);    // 만료 예정 충전분에서 차감
+            PointHistory history = pointRepository.insertHistory(userId, point, TransactionType.USE, System.currentTimeMillis());            // 충전 내역 조회
+            pointEventStream.publish(history);  // 변경 이벤트 발행
 
             return updatePoint;
         } finally {
             lock.unlock();  // 락 해제
         }
     }
+
+    /**
+     * 예약된 충전/사용/만료를 한 번의 락 획득과 한 번의 포인트 조회/갱신으로 일괄 반영
+     * 이미 취소되었거나 실행된 예약은 건너뛴다. 한도 초과 충전(연결된 만료 포함), 잔액 부족 사용은 버리고,
+     * 만료는 해당 충전분 중 남은 포인트를 잔액 한도 내에서만 차감한다.
+     * 포인트 갱신에 실패하면 예약 작업은 그대로 남아 다시 실행할 수 있다.
+     * @param userId
+     * @param operations 실행 순서대로 정렬된 예약 작업
+     * @return
+     */
+    public UserPoint applyScheduled(long userId, List<ScheduledPointOperation> operations) {
+        // 사용자별 락을 생성 또는 조회
+        final Lock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        lock.lock();    // 락 획득
+
+        try {
+            UserPoint getPoint = pointRepository.getPoint(userId);  // 포인트 조회
+            if(getPoint == null) {
+                throw new InvalidAmountException("User point not found");
+            }
+
+            PointGrantLedger.Batch grants = pointGrantLedger.begin(userId);
+            long balance = getPoint.point();
+            List<AppliedOperation> applied = new ArrayList<>();
+            for (ScheduledPointOperation operation : operations) {
+                // 실행 대상으로 꺼낸 뒤 취소된 예약
+                if (!grants.isPending(operation)) {
+                    continue;
+                }
+                switch (operation.type()) {
+                    case CHARGE -> {
+                        // 총 포인트가 10,000,000을 초과
+                        if (balance + operation.amount() > 10_000_000) {
+                            log.warn("Skip scheduled charge. Total points exceed the limit. scheduleId: {}", operation.id());
+                            grants.discard(operation);
+                            continue;
+                        }
+                        balance += operation.amount();
+                        applied.add(new AppliedOperation(TransactionType.CHARGE, operation.amount()));
+                        grants.grant(operation);
+                    }
+                    case USE -> {
+                        // 잔액 체크
+                        if (balance < operation.amount()) {
+                            log.warn("Skip scheduled use. Insufficient points. scheduleId: {}", operation.id());
+                            grants.complete(operation);
+                            continue;
+                        }
+                        balance -= operation.amount();
+                        applied.add(new AppliedOperation(TransactionType.USE, operation.amount()));
+                        grants.consume(operation.amount());
+                        grants.complete(operation);
+                    }
+                    case EXPIRE -> {
+                        // 해당 충전분 중 사용하지 않고 남은 포인트만 만료
+                        long expired = Math.min(balance, grants.remaining(operation));
+                        if (expired > 0) {
+                            balance -= expired;
+                            applied.add(new AppliedOperation(TransactionType.EXPIRE, expired));
+                        }
+                        grants.complete(operation);
+                    }
+                }
+            }
+
+            if (applied.isEmpty()) {
+                grants.commit();
+                return getPoint;
+            }
+
+            // 커밋 전까지 예약 충전 합계를 잔액 힌트에 더해 두어 힌트가 실제 잔액보다 작아지지 않도록 함
+            long scheduledCharges = applied.stream()
+                    .filter(operation -> operation.type() == TransactionType.CHARGE)
+                    .mapToLong(AppliedOperation::amount)
+                    .sum();
+            final BalanceHint hint = balanceHints.computeIfAbsent(userId, id -> new BalanceHint());
+            hint.pendingCharges.addAndGet(scheduledCharges);
+
+            try {
+                UserPoint userPoint = pointRepository.insertOrUpdate(getPoint.id(), balance);  // 최종 포인트 한 번만 갱신
+                hint.committed = balance;   // 잔액 힌트 갱신
+                grants.commit();    // 포인트가 반영된 뒤에 예약 작업 정리
+                long updateMillis = System.currentTimeMillis();
+                for (AppliedOperation operation : applied) {
+                    PointHistory history = pointRepository.insertHistory(userId, operation.amount(), operation.type(), updateMillis);
+                    pointEventStream.publish(history);  // 변경 이벤트 발행
+                }
+
+                return userPoint;
+            } finally {
+                hint.pendingCharges.addAndGet(-scheduledCharges);
+            }
+        } finally {
+            lock.unlock();  // 락 해제
+        }
+    }
+
+    /**
+     * 사용자 소유의 예약 취소. 충전을 취소하면 연결된 만료도 함께 취소된다.
+     * @param userId
+     * @param scheduleId
+     * @return 취소되었으면 true, 없거나 다른 사용자의 예약이면 false
+     */
+    public boolean cancelScheduled(long userId, long scheduleId) {
+        if(userId < 0) {
+            throw new InvalidUserException("Invalid userId : " + userId);
+        }
+
+        // 실행 중인 예약과 겹치지 않도록 사용자 락 안에서 취소
+        final Lock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        lock.lock();    // 락 획득
+
+        try {
+            return pointGrantLedger.cancel(userId, scheduleId);
+        } finally {
+            lock.unlock();  // 락 해제
+        }
+    }
+
+    /**
+     * 실행하지 않고 예약을 버림. 충전이면 연결된 만료도 함께 버린다.
+     * @param userId
+     * @param operations
+     */
+    public void discardScheduled(long userId, List<ScheduledPointOperation> operations) {
+        // 사용자별 락을 생성 또는 조회
+        final Lock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        lock.lock();    // 락 획득
+
+        try {
+            PointGrantLedger.Batch grants = pointGrantLedger.begin(userId);
+            operations.forEach(grants::discard);
+            grants.commit();
+        } finally {
+            lock.unlock();  // 락 해제
+        }
+    }
+
+    /**
+     * 락과 저장소 조회 없이 거절할 수 있는 요청을 먼저 걸러냄
+     */
+    private void validate(long userId, long point) {
+        if(userId < 0) {
+            throw new InvalidUserException("Invalid userId : " + userId);
+        }
+        // 0 이하 여부 체크
+        if(point <= 0) {
+            throw new InvalidAmountException("Invalid amount. Amount must be greater than 0. Requested amount: " + point);
+        }
+    }
+
+    private record AppliedOperation(TransactionType type, long amount) {
+    }
+
+    /**
+     * 사용자별 잔액 상한 힌트. 마지막으로 커밋된 잔액 + 진행 중인 충전 합계는 항상 실제 잔액 이상이므로
+     * 힌트로도 부족한 사용 요청은 락 없이 거절해도 안전하다.
+     */
+    private static final class BalanceHint {
+        private volatile long committed = -1;   // 마지막으로 커밋된 잔액 (-1: 아직 모름), 사용자 락 안에서만 변경
+        private final AtomicLong pendingCharges = new AtomicLong();
+
+        private boolean cannotCover(long point) {
+            long pending = pendingCharges.get();    // 충전 커밋 직후 값을 놓치지 않도록 진행 중 충전을 먼저 읽음
+            long balance = committed;
+            return balance >= 0 && balance + pending < point;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 포인트 변경 이벤트
+ * - sequence : 이벤트 스트림 내 순번 (구독 재개 커서)
+ * - history : 커밋된 충전/사용 내역
+ */
+public record PointChangeEvent(
+        long sequence,
+        PointHistory history
+) {
+}
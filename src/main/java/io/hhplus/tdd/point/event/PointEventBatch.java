@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.event;
+
+import java.util.List;
+
+/**
+ * 이벤트 조회 결과
+ * - cursor : 다음 조회에 사용할 커서
+ * - gap : 커서를 이어 읽을 수 없었으면 그 사유, 아니면 null
+ * - events : 커서 이후의 이벤트
+ */
+public record PointEventBatch(
+        PointEventCursor cursor,
+        PointEventGap gap,
+        List<PointChangeEvent> events
+) {
+
+    public boolean isEmpty() {
+        return gap == null && events.isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/point/events")
+public class PointEventController {
+
+    private final PointEventStream pointEventStream;
+
+    public PointEventController(PointEventStream pointEventStream) {
+        this.pointEventStream = pointEventStream;
+    }
+
+    /**
+     * 포인트 변경 이벤트 구독 (Server-Sent Events)
+     * 재연결 시 Last-Event-ID 헤더("epoch:sequence")가 있으면 해당 이벤트 이후부터 이어서 받고,
+     * 커서 없이 구독하면 구독 이후에 발행된 이벤트만 받는다.
+     * @param lastEventId
+     * @param epoch
+     * @param after
+     * @return
+     */
+    @GetMapping(value = "stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(defaultValue = "0") long epoch,
+            @RequestParam(defaultValue = "0") long after
+    ) {
+        PointEventCursor cursor = lastEventId != null ? PointEventCursor.parse(lastEventId) : new PointEventCursor(epoch, after);
+        return pointEventStream.subscribe(cursor);
+    }
+
+    /**
+     * 포인트 변경 이벤트 조회 (long-poll)
+     * 응답의 cursor 를 다음 요청의 epoch/after 로 넘긴다. gap 이 있으면 놓친 변경을 내역 조회로 다시 맞춘다.
+     * 커서 없이(epoch=0, after=0) 요청하면 요청 이후에 발행된 이벤트부터 받는다.
+     * @param epoch
+     * @param after
+     * @param limit
+     * @param timeoutMillis
+     * @return
+     */
+    @GetMapping
+    public DeferredResult<PointEventBatch> poll(
+            @RequestParam(defaultValue = "0") long epoch,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "30000") long timeoutMillis
+    ) {
+        return pointEventStream.poll(new PointEventCursor(epoch, after), limit, timeoutMillis);
+    }
+}
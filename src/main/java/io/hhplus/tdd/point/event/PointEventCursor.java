@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.event;
+
+/**
+ * 이벤트 스트림 구독 재개 커서
+ * - epoch : 스트림 epoch (기동마다 바뀜, 0 은 모름)
+ * - sequence : 마지막으로 받은 이벤트 sequence
+ */
+public record PointEventCursor(
+        long epoch,
+        long sequence
+) {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * SSE 이벤트 id ("epoch:sequence" 또는 sequence) 를 커서로 변환.
+     * 형식이 잘못된 값은 이어서 읽을 수 없으므로 스트림 초기화 대상(epoch -1)으로 취급한다.
+     * @param eventId
+     * @return
+     */
+    public static PointEventCursor parse(String eventId) {
+        try {
+            int separator = eventId.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new PointEventCursor(0, Long.parseLong(eventId.trim()));
+            }
+            return new PointEventCursor(
+                    Long.parseLong(eventId.substring(0, separator).trim()),
+                    Long.parseLong(eventId.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            return new PointEventCursor(-1, 0);
+        }
+    }
+
+    public String toEventId() {
+        return epoch + SEPARATOR + sequence;
+    }
+}
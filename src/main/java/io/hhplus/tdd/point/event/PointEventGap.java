@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.event;
+
+/**
+ * 커서를 그대로 이어 읽을 수 없을 때 함께 전달되는 표식.
+ * 이 표식을 받은 구독자는 놓친 변경을 GET /point/{id}/histories 로 다시 맞춰야 한다.
+ * - STREAM_RESET : 재기동 등으로 epoch 가 바뀌었거나 커서가 유효하지 않음 (lostEvents 는 -1, 알 수 없음)
+ * - EVENTS_LOST : 커서가 ring buffer 용량보다 뒤처져 lostEvents 건을 건너뜀
+ */
+public record PointEventGap(
+        Reason reason,
+        long lostEvents
+) {
+
+    public enum Reason {
+        STREAM_RESET, EVENTS_LOST
+    }
+}
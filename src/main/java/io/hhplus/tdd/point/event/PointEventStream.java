@@ -0,0 +1,317 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.PointHistory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포인트 변경 이벤트를 보관하는 고정 크기 ring buffer.
+ * 쓰기 경로(충전/사용)는 ring 에 한 칸 기록하고 dispatcher 를 깨우기만 한다.
+ * dispatcher 는 블로킹 없이 구독자별 전송 작업을 예약하고 대기 중인 long-poll 요청을 완료한다.
+ * SSE 전송은 구독자마다 별도 스레드에서 각자의 커서로 수행하므로 느린 구독자가 다른 구독자를 막지 않으며,
+ * 전송이 막힌 채 ring 용량보다 뒤처진 구독자는 연결을 끊는다 (재연결 시 EVENTS_LOST 표식을 받는다).
+ * emitter 종료는 막힌 소켓에 걸릴 수 있으므로 dispatcher 나 종료 스레드가 아닌 별도 closer 스레드에서 수행한다.
+ */
+@Component
+public class PointEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEventStream.class);
+
+    static final int CAPACITY = 4096;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final long MAX_POLL_TIMEOUT_MILLIS = 60_000L;
+    private static final long SSE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long SENDER_KEEP_ALIVE_SECONDS = 30L;
+
+    private final long epoch;
+    private final PointChangeEvent[] ring = new PointChangeEvent[CAPACITY];
+    private volatile long lastSequence = 0;  // 변경은 this 로 보호
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(daemon("point-event-dispatcher"));
+    private final ExecutorService closer = Executors.newCachedThreadPool(daemon("point-event-closer"));
+
+    public PointEventStream() {
+        this(System.currentTimeMillis());
+    }
+
+    PointEventStream(long epoch) {
+        this.epoch = epoch;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * 커밋된 포인트 내역을 이벤트로 발행
+     * @param history
+     */
+    public void publish(PointHistory history) {
+        synchronized (this) {
+            long sequence = lastSequence + 1;
+            ring[index(sequence)] = new PointChangeEvent(sequence, history);
+            lastSequence = sequence;
+        }
+        scheduleDispatch();
+    }
+
+    /**
+     * 커서 이후의 이벤트를 즉시 조회.
+     * epoch 가 다르거나 커서가 유효하지 않으면 STREAM_RESET, ring 에서 밀려난 이벤트가 있으면 EVENTS_LOST 표식을 붙인다.
+     * 커서 없이 처음 구독하면 지난 이벤트는 보내지 않고 현재 위치의 커서만 돌려준다.
+     * @param cursor 마지막으로 받은 이벤트 커서 (epoch 0, sequence 0 은 처음 구독)
+     * @param limit 최대 조회 건수
+     * @return
+     */
+    public synchronized PointEventBatch read(PointEventCursor cursor, int limit) {
+        if (isFresh(cursor)) {
+            return new PointEventBatch(head(), null, List.of());
+        }
+
+        long after = cursor.sequence();
+        PointEventGap gap = null;
+
+        // 재기동 전 커서이거나 아직 발행되지 않은 sequence → 남아 있는 이벤트 처음부터
+        if ((cursor.epoch() != 0 && cursor.epoch() != epoch) || after < 0 || after > lastSequence) {
+            gap = new PointEventGap(PointEventGap.Reason.STREAM_RESET, -1);
+            after = 0;
+        }
+
+        // ring 에서 밀려난 이벤트는 건너뛰고 유실 건수를 알림
+        long oldest = Math.max(1, lastSequence - CAPACITY + 1);
+        if (after + 1 < oldest) {
+            if (gap == null) {
+                gap = new PointEventGap(PointEventGap.Reason.EVENTS_LOST, oldest - after - 1);
+            }
+            after = oldest - 1;
+        }
+
+        long to = Math.min(lastSequence, after + clampLimit(limit));
+        List<PointChangeEvent> events = new ArrayList<>();
+        for (long sequence = after + 1; sequence <= to; sequence++) {
+            events.add(ring[index(sequence)]);
+        }
+        return new PointEventBatch(new PointEventCursor(epoch, Math.max(after, to)), gap, events);
+    }
+
+    /**
+     * 커서 이후의 이벤트가 생길 때까지 최대 timeoutMillis 동안 기다렸다가 응답 (long-poll).
+     * 대기 중에는 요청 스레드를 점유하지 않고 publish 시 dispatcher 가 결과를 채운다.
+     * @param cursor 마지막으로 받은 이벤트 커서
+     * @param limit 최대 조회 건수
+     * @param timeoutMillis 최대 대기 시간
+     * @return
+     */
+    public DeferredResult<PointEventBatch> poll(PointEventCursor cursor, int limit, long timeoutMillis) {
+        long timeout = Math.min(timeoutMillis, MAX_POLL_TIMEOUT_MILLIS);
+        DeferredResult<PointEventBatch> result = new DeferredResult<>(Math.max(timeout, 1L));
+
+        PointEventBatch batch = read(cursor, limit);
+        if (!batch.isEmpty() || timeout <= 0) {
+            result.setResult(batch);
+            return result;
+        }
+
+        // 처음 구독한 커서는 현재 위치로 고정해 대기 중에 발행된 이벤트부터 받는다
+        PointEventCursor from = batch.cursor();
+        Waiter waiter = new Waiter(result, from, limit);
+        result.onTimeout(() -> result.setResult(read(from, limit)));
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        complete(waiter);   // 등록 직전에 발행된 이벤트를 놓치지 않도록 한 번 더 확인
+        return result;
+    }
+
+    /**
+     * 커서 이후의 이벤트를 Server-Sent Events 로 구독.
+     * 이벤트 id 는 "epoch:sequence" 이며, 이어 읽을 수 없으면 "reset" 이벤트로 PointEventGap 을 먼저 보낸다.
+     * @param cursor 마지막으로 받은 이벤트 커서
+     * @return
+     */
+    public SseEmitter subscribe(PointEventCursor cursor) {
+        SseEmitter emitter = newEmitter();
+        Subscription subscription = new Subscription(emitter, isFresh(cursor) ? head() : cursor);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        subscriptions.add(subscription);
+        subscription.signal();
+        return emitter;
+    }
+
+    /**
+     * 전송이 막힌 구독자가 있어도 기다리지 않도록 emitter 종료는 closer 스레드에 맡기고 바로 반환
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscriptions.forEach(Subscription::close);
+        closer.shutdown();
+        waiters.forEach(waiter -> waiter.result.setResult(read(waiter.cursor, waiter.limit)));
+        waiters.clear();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(SSE_TIMEOUT_MILLIS);
+    }
+
+    private PointEventCursor head() {
+        return new PointEventCursor(epoch, lastSequence);
+    }
+
+    private void scheduleDispatch() {
+        // 대기 중인 dispatch 가 있으면 합쳐서 한 번만 실행 (쓰기 경로에서 큐가 쌓이지 않도록)
+        if ((!subscriptions.isEmpty() || !waiters.isEmpty()) && dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        subscriptions.forEach(Subscription::signal);
+        waiters.forEach(this::complete);
+    }
+
+    private void complete(Waiter waiter) {
+        PointEventBatch batch = read(waiter.cursor, waiter.limit);
+        if (!batch.isEmpty()) {
+            waiter.result.setResult(batch);
+            waiters.remove(waiter);
+        } else if (waiter.result.isSetOrExpired()) {
+            waiters.remove(waiter);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.sender.shutdown();
+    }
+
+    /**
+     * 커서 없이 처음 구독 (이전 이벤트는 받지 않고 현재 이후부터 받음)
+     */
+    private static boolean isFresh(PointEventCursor cursor) {
+        return cursor.epoch() == 0 && cursor.sequence() == 0;
+    }
+
+    private static int index(long sequence) {
+        return (int) (sequence % CAPACITY);
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_BATCH_SIZE);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Waiter(DeferredResult<PointEventBatch> result, PointEventCursor cursor, int limit) {
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        // 구독자 전용 전송 스레드. 보낼 것이 없으면 종료되고, 작업은 scheduled 로 한 번에 하나만 예약된다.
+        private final ThreadPoolExecutor sender = new ThreadPoolExecutor(
+                0, 1, SENDER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemon("point-event-sender"));
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile PointEventCursor cursor;
+        private volatile boolean sending;
+
+        private Subscription(SseEmitter emitter, PointEventCursor cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void signal() {
+            // 전송이 막힌 채로 ring 용량보다 뒤처지면 기다리지 않고 연결을 끊음
+            if (sending && lastSequence - cursor.sequence() > CAPACITY) {
+                log.debug("Drop slow point event subscription. cursor: {}", cursor.toEventId());
+                close();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);   // 이미 해제된 구독
+                }
+            }
+        }
+
+        /**
+         * 구독 해제 후 emitter 종료를 closer 스레드에 맡김.
+         * 막힌 send 와 같은 락을 잡으므로 호출한 스레드(dispatcher, 종료 스레드)는 기다리지 않는다.
+         */
+        private void close() {
+            remove(this);
+            try {
+                closer.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // 이미 종료된 스트림. 컨테이너가 연결을 정리한다
+            }
+        }
+
+        private void drain() {
+            scheduled.set(false);
+            try {
+                PointEventBatch batch;
+                do {
+                    batch = read(cursor, MAX_BATCH_SIZE);
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    sending = true;
+                    if (batch.gap() != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(new PointEventCursor(batch.cursor().epoch(), batch.cursor().sequence() - batch.events().size()).toEventId())
+                                .name("reset")
+                                .data(batch.gap()));
+                    }
+                    for (PointChangeEvent event : batch.events()) {
+                        PointEventCursor next = new PointEventCursor(batch.cursor().epoch(), event.sequence());
+                        emitter.send(SseEmitter.event()
+                                .id(next.toEventId())
+                                .name("point")
+                                .data(event.history()));
+                        cursor = next;
+                    }
+                    cursor = batch.cursor();
+                } while (batch.events().size() == MAX_BATCH_SIZE);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Drop point event subscription. cursor: {}", cursor.toEventId(), e);
+                remove(this);
+            } finally {
+                sending = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class InsufficientPointException extends InvalidAmountException {
+    public InsufficientPointException(String message) {
+        super(message);
+    }
+}
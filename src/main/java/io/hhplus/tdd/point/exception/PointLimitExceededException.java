@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class PointLimitExceededException extends InvalidAmountException {
+    public PointLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -4,7 +4,9 @@ import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PointRepository {
 
@@ -15,4 +17,10 @@ public interface PointRepository {
     UserPoint insertOrUpdate(long userId, long point);
 
     PointHistory insertHistory(long userId, long amount, TransactionType transactionType, long updateMillis);
+
+    Collection<UserPoint> getAllPoints();
+
+    Map<Long, List<PointHistory>> getAllHistories();
+
+    void restore(Map<Long, UserPoint> userPoints, Map<Long, List<PointHistory>> histories);
 }
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable / PointHistoryTable 을 write-through 로 감싸는 저장소.
+ * 스냅샷으로 복원된 데이터와 이후 기록된 데이터를 함께 보관하여 조회와 스냅샷 export 에 사용한다.
+ * 사용자별 내역은 id 순서대로 뒤에만 추가되므로 동기화된 ArrayList 에 보관하고, 조회 시에는 복사본을 돌려준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointRepositoryImpl implements PointRepository {
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryTable pointHistoryTable;
+
+    private final Map<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+    private final Map<Long, List<PointHistory>> histories = new ConcurrentHashMap<>();
+    private volatile long historyIdOffset = 0;  // 스냅샷 내역 id 와 겹치지 않도록 테이블 id 에 더함
+
+    @Override
+    public UserPoint getPoint(long userId) {
+        UserPoint userPoint = userPoints.get(userId);
+        return userPoint != null ? userPoint : userPointTable.selectById(userId);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long userId) {
+        return List.copyOf(histories.getOrDefault(userId, List.of()));  // synchronizedList 의 toArray 는 락 안에서 복사
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        UserPoint userPoint = userPointTable.insertOrUpdate(userId, point);
+        userPoints.put(userId, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType transactionType, long updateMillis) {
+        PointHistory inserted = pointHistoryTable.insert(userId, amount, transactionType, updateMillis);
+        PointHistory history = historyIdOffset == 0 ? inserted
+                : new PointHistory(inserted.id() + historyIdOffset, userId, amount, transactionType, updateMillis);
+        histories.computeIfAbsent(userId, id -> Collections.synchronizedList(new ArrayList<>())).add(history);
+        return history;
+    }
+
+    @Override
+    public Collection<UserPoint> getAllPoints() {
+        return Collections.unmodifiableCollection(userPoints.values());
+    }
+
+    @Override
+    public Map<Long, List<PointHistory>> getAllHistories() {
+        return Collections.unmodifiableMap(histories);
+    }
+
+    /**
+     * 스냅샷으로 디코딩한 ArrayList 는 다시 복사하지 않고 그대로 넘겨받는다 (이후 호출자가 변경하면 안 됨).
+     * 사용자별 내역은 id 순서이므로 마지막 내역의 id 로 최대 id 를 구한다.
+     */
+    @Override
+    public void restore(Map<Long, UserPoint> userPoints, Map<Long, List<PointHistory>> histories) {
+        this.userPoints.putAll(userPoints);
+
+        long maxHistoryId = historyIdOffset;
+        for (Map.Entry<Long, List<PointHistory>> entry : histories.entrySet()) {
+            List<PointHistory> userHistories = entry.getValue();
+            if (userHistories.isEmpty()) {
+                continue;
+            }
+            List<PointHistory> adopted = userHistories instanceof ArrayList<PointHistory> list ? list : new ArrayList<>(userHistories);
+            this.histories.put(entry.getKey(), Collections.synchronizedList(adopted));
+            maxHistoryId = Math.max(maxHistoryId, adopted.get(adopted.size() - 1).id());
+        }
+        historyIdOffset = maxHistoryId;
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point.schedule;
+
+import io.hhplus.tdd.database.ScheduledPointOperationTable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 만료 예정 충전분(grant) 관리.
+ * expireAfterDays 로 예약한 충전과 만료는 linkedId 로 서로 연결되며, 충전이 반영되면 만료가 활성화되고
+ * 충전이 취소되거나 건너뛰어지면 만료도 함께 취소된다.
+ * 포인트를 사용하면 만료가 가까운 충전분부터 차감하므로, 만료 시점에는 해당 충전분 중 남은 포인트만 만료된다.
+ * 모든 변경은 PointService 의 사용자 락 안에서 호출된다.
+ */
+@Component
+public class PointGrantLedger {
+
+    private static final Comparator<ScheduledPointOperation> EXPIRE_ORDER =
+            Comparator.comparingLong(ScheduledPointOperation::executeAtMillis).thenComparingLong(ScheduledPointOperation::id);
+
+    private final ScheduledPointOperationTable scheduledPointOperationTable;
+
+    public PointGrantLedger(ScheduledPointOperationTable scheduledPointOperationTable) {
+        this.scheduledPointOperationTable = scheduledPointOperationTable;
+    }
+
+    /**
+     * 사용자의 예약 작업 변경을 모아 두었다가 commit 시 한 번에 반영
+     * @param userId
+     * @return
+     */
+    public Batch begin(long userId) {
+        return new Batch(scheduledPointOperationTable.selectAllByUserId(userId));
+    }
+
+    /**
+     * 포인트 사용분을 만료가 가까운 충전분부터 차감
+     * @param userId
+     * @param amount
+     */
+    public void consume(long userId, long amount) {
+        Batch batch = begin(userId);
+        batch.consume(amount);
+        batch.commit();
+    }
+
+    /**
+     * 사용자 소유의 예약 취소. 충전을 취소하면 연결된 만료도 함께 취소된다.
+     * 만료는 단독으로 취소할 수 없다.
+     * @param userId
+     * @param scheduleId
+     * @return 취소되었으면 true
+     */
+    public boolean cancel(long userId, long scheduleId) {
+        ScheduledPointOperation operation = scheduledPointOperationTable.selectById(scheduleId);
+        if (operation == null || operation.userId() != userId || operation.type() == ScheduleType.EXPIRE) {
+            return false;
+        }
+        Batch batch = begin(userId);
+        batch.discard(operation);
+        batch.commit();
+        return true;
+    }
+
+    public final class Batch {
+        private final Map<Long, ScheduledPointOperation> operations = new HashMap<>();
+        private final Set<Long> changed = new HashSet<>();
+
+        private Batch(List<ScheduledPointOperation> operations) {
+            operations.forEach(operation -> this.operations.put(operation.id(), operation));
+        }
+
+        /**
+         * @return 아직 실행/취소되지 않은 작업이면 true
+         */
+        public boolean isPending(ScheduledPointOperation operation) {
+            return operations.containsKey(operation.id());
+        }
+
+        /**
+         * 충전 반영 완료. 연결된 만료를 활성화한다.
+         */
+        public void grant(ScheduledPointOperation charge) {
+            ScheduledPointOperation expire = linkedExpire(charge);
+            if (expire != null) {
+                put(expire.withLinkedId(0));
+            }
+            remove(charge.id());
+        }
+
+        /**
+         * 실행하지 않고 버림. 충전이면 연결된 만료도 함께 버린다.
+         */
+        public void discard(ScheduledPointOperation operation) {
+            ScheduledPointOperation expire = linkedExpire(operation);
+            if (expire != null) {
+                remove(expire.id());
+            }
+            remove(operation.id());
+        }
+
+        /**
+         * 실행 완료
+         */
+        public void complete(ScheduledPointOperation operation) {
+            remove(operation.id());
+        }
+
+        /**
+         * @return 만료 작업이 차감할 남은 충전분 (충전이 아직 반영되지 않았으면 0)
+         */
+        public long remaining(ScheduledPointOperation expire) {
+            ScheduledPointOperation current = operations.get(expire.id());
+            return current == null || current.linkedId() != 0 ? 0 : current.amount();
+        }
+
+        public void consume(long amount) {
+            List<ScheduledPointOperation> grants = operations.values().stream()
+                    .filter(operation -> operation.type() == ScheduleType.EXPIRE && operation.linkedId() == 0)
+                    .sorted(EXPIRE_ORDER)
+                    .toList();
+
+            long left = amount;
+            for (ScheduledPointOperation grant : grants) {
+                if (left == 0) {
+                    break;
+                }
+                long used = Math.min(left, grant.amount());
+                left -= used;
+                if (used == grant.amount()) {
+                    remove(grant.id());     // 모두 사용한 충전분은 만료할 것이 없음
+                } else {
+                    put(grant.withAmount(grant.amount() - used));
+                }
+            }
+        }
+
+        public void commit() {
+            for (long id : changed) {
+                ScheduledPointOperation operation = operations.get(id);
+                if (operation == null) {
+                    scheduledPointOperationTable.delete(id);
+                } else {
+                    scheduledPointOperationTable.update(operation);
+                }
+            }
+            changed.clear();
+        }
+
+        private ScheduledPointOperation linkedExpire(ScheduledPointOperation operation) {
+            ScheduledPointOperation charge = operations.getOrDefault(operation.id(), operation);
+            if (charge.type() != ScheduleType.CHARGE || charge.linkedId() == 0) {
+                return null;
+            }
+            ScheduledPointOperation expire = operations.get(charge.linkedId());
+            return expire != null && expire.linkedId() == charge.id() ? expire : null;
+        }
+
+        private void put(ScheduledPointOperation operation) {
+            operations.put(operation.id(), operation);
+            changed.add(operation.id());
+        }
+
+        private void remove(long id) {
+            operations.remove(id);
+            changed.add(id);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.schedule;
+
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/point/{id}/schedules")
+public class PointScheduleController {
+
+    private final PointScheduler pointScheduler;
+
+    public PointScheduleController(PointScheduler pointScheduler) {
+        this.pointScheduler = pointScheduler;
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/사용 예약 (충전은 만료를 함께 예약할 수 있음)
+     * @param id
+     * @param request
+     * @return
+     */
+    @PostMapping
+    public List<ScheduledPointOperation> schedule(
+            @PathVariable long id,
+            @RequestBody ScheduleRequest request
+    ) {
+        return pointScheduler.schedule(id, request);
+    }
+
+    /**
+     * 특정 유저의 실행 대기 중인 예약 조회
+     * @param id
+     * @return
+     */
+    @GetMapping
+    public List<ScheduledPointOperation> pending(
+            @PathVariable long id
+    ) {
+        return pointScheduler.getPending(id);
+    }
+
+    /**
+     * 예약 취소 (충전을 취소하면 연결된 만료도 함께 취소)
+     * @param id
+     * @param scheduleId
+     * @return
+     */
+    @DeleteMapping("{scheduleId}")
+    public boolean cancel(
+            @PathVariable long id,
+            @PathVariable long scheduleId
+    ) {
+        return pointScheduler.cancel(id, scheduleId);
+    }
+}
@@ -0,0 +1,313 @@
+package io.hhplus.tdd.point.schedule;
+
+import io.hhplus.tdd.database.ScheduledPointOperationTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.exception.InvalidAmountException;
+import io.hhplus.tdd.point.exception.InvalidUserException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 충전/사용/만료 실행기.
+ * 예약 작업은 ScheduledPointOperationTable 에 저장되고 계층형 타이밍 휠에 등록된다.
+ * 만료된 작업은 사용자별로 묶어 사용자 id 로 고정된 lane 에서 순서대로 실행하므로
+ * 같은 시각에 몰린 예약도 lane 수만큼만 동시에 처리되고, 사용자당 락 획득은 한 번이다.
+ * 반영에 실패한 작업은 지수 백오프로 다시 예약하고, MAX_ATTEMPTS 번 실패하면 버리고 에러 로그를 남긴다.
+ * 실행 대기 중인 예약은 스냅샷에 함께 저장되므로, 스냅샷 로딩 이후에 시작해 복원된 예약을 다시 등록하고
+ * 종료 시에는 스냅샷 export 전에 실행 중인 lane 작업이 끝나기를 기다린다.
+ */
+@Component
+@DependsOn("pointSnapshotService")
+public class PointScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointScheduler.class);
+
+    private static final long TICK_MILLIS = 100L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int LANE_COUNT = 4;
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final long MAX_SCHEDULE_AHEAD_MILLIS = TimeUnit.DAYS.toMillis(365);
+    private static final int MAX_EXPIRE_AFTER_DAYS = 3_650;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BASE_DELAY_MILLIS = 1_000L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final ScheduledPointOperationTable scheduledPointOperationTable;
+    private final PointService pointService;
+
+    private final DelayQueue<TimerBucket> delayQueue = new DelayQueue<>();
+    private final TimingWheel timingWheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis(), delayQueue);
+    private final ExecutorService[] lanes = new ExecutorService[LANE_COUNT];
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();    // 예약 id → 실패 횟수
+    private Thread driver;
+    private volatile boolean running;
+
+    public PointScheduler(ScheduledPointOperationTable scheduledPointOperationTable, PointService pointService) {
+        this.scheduledPointOperationTable = scheduledPointOperationTable;
+        this.pointService = pointService;
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(daemon("point-scheduler-lane-" + i));
+        }
+
+        // 스냅샷에서 복원된 예약 작업 등록 (실행 시각이 지난 작업은 바로 실행)
+        List<ScheduledPointOperation> pending = scheduledPointOperationTable.selectAll();
+        dispatch(register(pending));
+
+        running = true;
+        driver = daemon("point-scheduler").newThread(this::run);
+        driver.start();
+    }
+
+    /**
+     * 새 작업은 받지 않고 실행 중인 lane 작업은 끝날 때까지 기다린다 (최대 SHUTDOWN_TIMEOUT_MILLIS).
+     * 실행되지 못한 예약은 테이블에 남아 스냅샷과 함께 저장된다.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        try {
+            if (driver != null) {
+                driver.interrupt();
+                driver.join(SHUTDOWN_TIMEOUT_MILLIS);
+            }
+            for (ExecutorService lane : lanes) {
+                if (lane != null) {
+                    lane.shutdown();
+                }
+            }
+            for (ExecutorService lane : lanes) {
+                if (lane != null && !lane.awaitTermination(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+                    log.warn("Point scheduler lane did not terminate in {}ms.", SHUTDOWN_TIMEOUT_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 포인트 작업 예약
+     * @param userId
+     * @param request
+     * @return 등록된 예약 목록 (만료를 함께 요청한 경우 충전 + 만료)
+     */
+    public List<ScheduledPointOperation> schedule(long userId, ScheduleRequest request) {
+        if(userId < 0) {
+            throw new InvalidUserException("Invalid userId : " + userId);
+        }
+        if(request.type() == null || request.type() == ScheduleType.EXPIRE) {
+            throw new InvalidAmountException("Schedule type must be CHARGE or USE.");
+        }
+        if(request.amount() <= 0) {
+            throw new InvalidAmountException("Invalid amount. Amount must be greater than 0. Requested amount: " + request.amount());
+        }
+        if(request.type() == ScheduleType.CHARGE && request.amount() > 1_000_000) {
+            throw new InvalidAmountException("Max allowed charge is 1,000,000.");
+        }
+        if(request.type() == ScheduleType.USE && request.amount() > 10_000_000) {
+            throw new InvalidAmountException("Max allowed use is 10,000,000.");
+        }
+        // 누락(0)이나 먼 미래 시각은 즉시 실행되거나 휠 계산이 넘치므로 허용 범위 안에서만 받음
+        if(request.executeAtMillis() == null || request.executeAtMillis() <= 0
+                || request.executeAtMillis() > System.currentTimeMillis() + MAX_SCHEDULE_AHEAD_MILLIS) {
+            throw new InvalidAmountException("executeAtMillis is required and must be within 365 days. Requested: " + request.executeAtMillis());
+        }
+        if(request.expireAfterDays() != null && (request.type() != ScheduleType.CHARGE
+                || request.expireAfterDays() <= 0 || request.expireAfterDays() > MAX_EXPIRE_AFTER_DAYS)) {
+            throw new InvalidAmountException("expireAfterDays is only allowed for CHARGE and must be between 1 and 3,650.");
+        }
+        long executeAtMillis = request.executeAtMillis();
+        long expireAtMillis = request.expireAfterDays() != null
+                ? Math.addExact(executeAtMillis, Math.multiplyExact((long) request.expireAfterDays(), DAY_MILLIS))
+                : 0;
+
+        List<ScheduledPointOperation> operations = new ArrayList<>();
+        ScheduledPointOperation operation = scheduledPointOperationTable.insert(userId, request.amount(), request.type(), executeAtMillis, 0);
+        if(request.expireAfterDays() != null) {
+            // 만료는 충전이 반영되기 전까지 충전을 가리키는 비활성 상태로 등록
+            ScheduledPointOperation expire = scheduledPointOperationTable.insert(userId, request.amount(), ScheduleType.EXPIRE, expireAtMillis, operation.id());
+            operation = operation.withLinkedId(expire.id());
+            scheduledPointOperationTable.update(operation);
+            operations.add(operation);
+            operations.add(expire);
+        } else {
+            operations.add(operation);
+        }
+
+        dispatch(register(operations));
+        return operations;
+    }
+
+    /**
+     * 특정 유저의 실행 대기 중인 예약 조회
+     * @param userId
+     * @return
+     */
+    public List<ScheduledPointOperation> getPending(long userId) {
+        if(userId < 0) {
+            throw new InvalidUserException("Invalid userId : " + userId);
+        }
+        return scheduledPointOperationTable.selectAllByUserId(userId).stream()
+                .sorted(Comparator.comparingLong(ScheduledPointOperation::executeAtMillis))
+                .toList();
+    }
+
+    /**
+     * 예약 취소. 충전을 취소하면 연결된 만료도 함께 취소된다.
+     * 휠에 남아 있는 항목은 실행 시점에 테이블에 없으면 건너뛴다.
+     * @param userId
+     * @param scheduleId
+     * @return 취소되었으면 true, 없거나 다른 사용자의 예약이면 false
+     */
+    public boolean cancel(long userId, long scheduleId) {
+        return pointService.cancelScheduled(userId, scheduleId);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                TimerBucket bucket = delayQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+
+                List<ScheduledPointOperation> due = new ArrayList<>();
+                synchronized (timingWheel) {
+                    // 이미 만료된 칸은 한 번에 모두 꺼내 사용자별 묶음을 크게 만든다
+                    while (bucket != null) {
+                        timingWheel.advanceClock(bucket.getExpiration());
+                        for (ScheduledPointOperation operation : bucket.flush()) {
+                            if (!timingWheel.add(operation)) {  // 하위 휠로 내려가지 않으면 실행 대상
+                                due.add(operation);
+                            }
+                        }
+                        bucket = delayQueue.poll();
+                    }
+                }
+                dispatch(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Point scheduler tick failed.", e);
+            }
+        }
+    }
+
+    /**
+     * @return 이미 실행 시각이 지난 작업 목록
+     */
+    private List<ScheduledPointOperation> register(List<ScheduledPointOperation> operations) {
+        List<ScheduledPointOperation> due = new ArrayList<>();
+        synchronized (timingWheel) {
+            for (ScheduledPointOperation operation : operations) {
+                if (!timingWheel.add(operation)) {
+                    due.add(operation);
+                }
+            }
+        }
+        return due;
+    }
+
+    private void dispatch(List<ScheduledPointOperation> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<ScheduledPointOperation>> byUser = new LinkedHashMap<>();
+        for (ScheduledPointOperation operation : due) {
+            byUser.computeIfAbsent(operation.userId(), id -> new ArrayList<>()).add(operation);
+        }
+
+        byUser.forEach((userId, operations) -> {
+            operations.sort(Comparator.comparingLong(ScheduledPointOperation::executeAtMillis)
+                    .thenComparingLong(ScheduledPointOperation::id));
+            try {
+                lanes[(int) Math.floorMod(userId, (long) LANE_COUNT)].execute(() -> execute(userId, operations));
+            } catch (RejectedExecutionException e) {
+                // 종료 중. 테이블에 남은 예약은 스냅샷과 함께 저장되어 재기동 후 실행된다
+                log.debug("Point scheduler is stopped. userId: {}, count: {}", userId, operations.size());
+            }
+        });
+    }
+
+    private void execute(long userId, List<ScheduledPointOperation> operations) {
+        // 취소된 예약은 PointService 가 사용자 락 안에서 건너뛰고, 실행된 예약은 테이블에서 정리한다
+        try {
+            pointService.applyScheduled(userId, operations);
+            operations.forEach(operation -> failedAttempts.remove(operation.id()));
+        } catch (RuntimeException e) {
+            log.warn("Scheduled point operations failed. userId: {}, count: {}", userId, operations.size(), e);
+            retry(userId, operations);
+        }
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 다시 예약. 재시도 횟수를 넘긴 작업은 버린다.
+     */
+    private void retry(long userId, List<ScheduledPointOperation> operations) {
+        long now = System.currentTimeMillis();
+        List<ScheduledPointOperation> retries = new ArrayList<>();
+        List<ScheduledPointOperation> dropped = new ArrayList<>();
+        for (ScheduledPointOperation operation : operations) {
+            ScheduledPointOperation current = scheduledPointOperationTable.selectById(operation.id());
+            if (current == null) {  // 그 사이 취소됨
+                failedAttempts.remove(operation.id());
+                continue;
+            }
+
+            int attempts = failedAttempts.merge(operation.id(), 1, Integer::sum);
+            if (attempts >= MAX_ATTEMPTS) {
+                failedAttempts.remove(operation.id());
+                dropped.add(current);
+                continue;
+            }
+            ScheduledPointOperation rescheduled = current.withExecuteAtMillis(now + (RETRY_BASE_DELAY_MILLIS << (attempts - 1)));
+            if (scheduledPointOperationTable.update(rescheduled)) {
+                retries.add(rescheduled);
+            }
+        }
+
+        if (!dropped.isEmpty()) {
+            log.error("Drop scheduled point operations after {} attempts. userId: {}, scheduleIds: {}",
+                    MAX_ATTEMPTS, userId, dropped.stream().map(ScheduledPointOperation::id).toList());
+            try {
+                pointService.discardScheduled(userId, dropped);
+            } catch (RuntimeException e) {
+                log.error("Failed to discard scheduled point operations. userId: {}", userId, e);
+            }
+        }
+        dispatch(register(retries));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
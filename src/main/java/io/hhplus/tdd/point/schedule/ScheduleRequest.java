@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.schedule;
+
+/**
+ * 포인트 예약 요청 (type 은 CHARGE 또는 USE)
+ * - executeAtMillis : 실행 시각 (필수, 365일 이내)
+ * - expireAfterDays : CHARGE 예약일 때만 사용 (최대 3,650일). 충전 시점으로부터 N일 후 해당 충전분 중 남은 포인트의 만료를 함께 예약
+ */
+public record ScheduleRequest(
+        ScheduleType type,
+        long amount,
+        Long executeAtMillis,
+        Integer expireAfterDays
+) {
+}
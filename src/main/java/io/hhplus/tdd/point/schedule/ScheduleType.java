@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.schedule;
+
+/**
+ * 예약 작업 종류
+ * - CHARGE : 예약 충전
+ * - USE : 예약 사용
+ * - EXPIRE : 포인트 만료. expireAfterDays 로 예약한 충전분 중 남은 포인트만 차감
+ */
+public enum ScheduleType {
+    CHARGE, USE, EXPIRE
+}
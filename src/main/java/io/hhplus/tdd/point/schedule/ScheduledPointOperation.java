@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.schedule;
+
+/**
+ * 예약 작업
+ * - linkedId : expireAfterDays 로 함께 예약된 충전/만료를 서로 가리킴 (없으면 0).
+ *              만료는 연결된 충전이 반영되기 전까지 충전 id 를 가리키고(비활성), 반영된 뒤에는 0 이 된다(활성).
+ * - amount : 만료 작업은 해당 충전분 중 아직 사용되지 않고 남아 있는 포인트
+ */
+public record ScheduledPointOperation(
+        long id,
+        long userId,
+        long amount,
+        ScheduleType type,
+        long executeAtMillis,
+        long linkedId
+) {
+
+    public ScheduledPointOperation withAmount(long amount) {
+        return new ScheduledPointOperation(id, userId, amount, type, executeAtMillis, linkedId);
+    }
+
+    public ScheduledPointOperation withExecuteAtMillis(long executeAtMillis) {
+        return new ScheduledPointOperation(id, userId, amount, type, executeAtMillis, linkedId);
+    }
+
+    public ScheduledPointOperation withLinkedId(long linkedId) {
+        return new ScheduledPointOperation(id, userId, amount, type, executeAtMillis, linkedId);
+    }
+}
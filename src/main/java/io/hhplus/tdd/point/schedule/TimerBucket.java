@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타이밍 휠의 한 칸. 같은 tick 에 만료되는 예약 작업을 모아 DelayQueue 에 한 번만 등록된다.
+ * 작업 목록은 TimingWheel 을 감싸는 락 안에서만 변경된다.
+ */
+final class TimerBucket implements Delayed {
+
+    private final AtomicLong expirationMillis = new AtomicLong(-1L);
+    private List<ScheduledPointOperation> operations = new ArrayList<>();
+
+    void add(ScheduledPointOperation operation) {
+        operations.add(operation);
+    }
+
+    /**
+     * @return 만료 시각이 바뀌었으면 true (DelayQueue 에 다시 등록해야 함)
+     */
+    boolean setExpiration(long expirationMillis) {
+        return this.expirationMillis.getAndSet(expirationMillis) != expirationMillis;
+    }
+
+    long getExpiration() {
+        return expirationMillis.get();
+    }
+
+    List<ScheduledPointOperation> flush() {
+        List<ScheduledPointOperation> flushed = operations;
+        operations = new ArrayList<>();
+        expirationMillis.set(-1L);
+        return flushed;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getExpiration(), ((TimerBucket) other).getExpiration());
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.schedule;
+
+import java.util.concurrent.DelayQueue;
+
+/**
+ * 계층형 타이밍 휠.
+ * 한 바퀴(tick * wheelSize) 안에 들어오는 작업은 현재 휠의 칸에, 그보다 먼 작업은 상위 휠에 등록한다.
+ * 상위 휠의 칸이 만료되면 작업을 다시 add 하여 하위 휠로 내려보낸다.
+ * 칸 단위로만 DelayQueue 에 등록하므로 예약 건수와 무관하게 삽입은 O(1) 이다.
+ * thread-safe 하지 않으며 호출자가 동기화한다.
+ */
+final class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final TimerBucket[] buckets;
+    private final DelayQueue<TimerBucket> queue;
+
+    private long currentTimeMillis;
+    private TimingWheel overflowWheel;
+
+    TimingWheel(long tickMillis, int wheelSize, long startMillis, DelayQueue<TimerBucket> queue) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.buckets = new TimerBucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new TimerBucket();
+        }
+        this.queue = queue;
+        this.currentTimeMillis = startMillis - (startMillis % tickMillis);
+    }
+
+    /**
+     * 실행 시각을 tick 단위로 올림하여 등록한다. 만료는 올림한 시각 이후에만 일어나므로 예약 시각보다 먼저 실행되지 않는다.
+     * @return 이미 실행 시각이 지나 휠에 등록하지 않았으면 false
+     */
+    boolean add(ScheduledPointOperation operation) {
+        long executeAtMillis = operation.executeAtMillis();
+        long deadlineMillis = Math.floorDiv(executeAtMillis, tickMillis) * tickMillis;
+        if (deadlineMillis < executeAtMillis) {
+            deadlineMillis = Math.addExact(deadlineMillis, tickMillis);  // 넘치면 음수가 되어 즉시 실행되므로 실패시킴
+        }
+        return add(operation, deadlineMillis);
+    }
+
+    private boolean add(ScheduledPointOperation operation, long deadlineMillis) {
+        // 현재 tick 안에 만료 → 즉시 실행 대상 (currentTimeMillis 는 항상 실제 시각 이하)
+        if (deadlineMillis < currentTimeMillis + tickMillis) {
+            return false;
+        }
+
+        // 현재 휠 한 바퀴 안 → 해당 칸에 등록
+        if (deadlineMillis < currentTimeMillis + intervalMillis) {
+            long virtualId = deadlineMillis / tickMillis;
+            TimerBucket bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(operation);
+            if (bucket.setExpiration(virtualId * tickMillis)) {
+                queue.offer(bucket);
+            }
+            return true;
+        }
+
+        // 그보다 멀면 상위 휠에 위임 (상위 칸이 만료되면 다시 add 되어 하위 휠로 내려온다)
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel(intervalMillis, wheelSize, currentTimeMillis, queue);
+        }
+        return overflowWheel.add(operation, deadlineMillis);
+    }
+
+    void advanceClock(long timeMillis) {
+        if (timeMillis >= currentTimeMillis + tickMillis) {
+            currentTimeMillis = timeMillis - (timeMillis % tickMillis);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTimeMillis);
+            }
+        }
+    }
+}
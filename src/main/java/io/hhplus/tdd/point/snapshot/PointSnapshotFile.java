@@ -0,0 +1,279 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.schedule.ScheduleType;
+import io.hhplus.tdd.point.schedule.ScheduledPointOperation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 포인트 스냅샷 바이너리 포맷 (big-endian, 고정 길이 레코드)
+ * <pre>
+ * header   : magic(int) version(int) pointCount(long) historyCount(long) scheduleCount(long)
+ * point    : id(long) point(long) updateMillis(long)
+ * history  : id(long) userId(long) amount(long) type(byte) updateMillis(long)
+ * schedule : id(long) userId(long) amount(long) type(byte) executeAtMillis(long) linkedId(long)
+ * </pre>
+ * 내역은 사용자별로 id 순서대로 연속 기록된다. schedule 은 실행 대기 중인 예약 작업이다.
+ * version 1 파일(header 에 scheduleCount 와 schedule 구간이 없음)도 읽을 수 있다.
+ * 고정 길이 레코드이므로 읽을 때 파일을 구간별로 memory-map 하여 병렬로 디코딩한다.
+ */
+final class PointSnapshotFile {
+
+    static final int MAGIC = 0x48485053;    // "HHPS"
+    static final int VERSION = 2;
+    static final int V1 = 1;
+
+    static final int V1_HEADER_BYTES = 4 + 4 + 8 + 8;
+    static final int HEADER_BYTES = V1_HEADER_BYTES + 8;
+    static final int POINT_BYTES = 8 + 8 + 8;
+    static final int HISTORY_BYTES = 8 + 8 + 8 + 1 + 8;
+    static final int SCHEDULE_BYTES = 8 + 8 + 8 + 1 + 8 + 8;
+
+    private static final long MAX_CHUNK_BYTES = 256L * 1024 * 1024;
+
+    private PointSnapshotFile() {
+    }
+
+    record Snapshot(Map<Long, UserPoint> userPoints, Map<Long, List<PointHistory>> histories, List<ScheduledPointOperation> schedules) {
+    }
+
+    static void write(Path path, Collection<UserPoint> userPoints, Map<Long, List<PointHistory>> histories,
+                      Collection<ScheduledPointOperation> schedules) throws IOException {
+        // export 도중 추가되는 데이터는 다음 스냅샷에 포함되도록 먼저 복사본을 만든다
+        List<UserPoint> points = List.copyOf(userPoints);
+        List<List<PointHistory>> userHistories = histories.values().stream().map(List::copyOf).toList();
+        long historyCount = userHistories.stream().mapToLong(List::size).sum();
+        List<ScheduledPointOperation> operations = List.copyOf(schedules);
+
+        // 쓰는 도중 실패해도 기존 스냅샷이 깨지지 않도록 임시 파일에 쓴 뒤 교체
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(points.size());
+            out.writeLong(historyCount);
+            out.writeLong(operations.size());
+
+            for (UserPoint userPoint : points) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+
+            for (List<PointHistory> list : userHistories) {
+                for (PointHistory history : list) {
+                    out.writeLong(history.id());
+                    out.writeLong(history.userId());
+                    out.writeLong(history.amount());
+                    out.writeByte(code(history.type()));
+                    out.writeLong(history.updateMillis());
+                }
+            }
+
+            for (ScheduledPointOperation operation : operations) {
+                out.writeLong(operation.id());
+                out.writeLong(operation.userId());
+                out.writeLong(operation.amount());
+                out.writeByte(code(operation.type()));
+                out.writeLong(operation.executeAtMillis());
+                out.writeLong(operation.linkedId());
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < V1_HEADER_BYTES) {
+                throw new IllegalStateException("Unsupported point snapshot file: " + path);
+            }
+            // version 1, 2 가 공유하는 앞부분만 먼저 읽고 version 에 따라 header 길이를 정함
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, V1_HEADER_BYTES);
+            header.order(ByteOrder.BIG_ENDIAN);
+            int version = header.getInt(4);
+            if (header.getInt(0) != MAGIC || (version != VERSION && version != V1)) {
+                throw new IllegalStateException("Unsupported point snapshot file: " + path);
+            }
+            long pointCount = header.getLong(8);
+            long historyCount = header.getLong(16);
+            long scheduleCount = 0;
+            long headerBytes = V1_HEADER_BYTES;
+            if (version == VERSION) {
+                if (channel.size() < HEADER_BYTES) {
+                    throw new IllegalStateException("Corrupted point snapshot file: " + path);
+                }
+                scheduleCount = map(channel, V1_HEADER_BYTES, 8).order(ByteOrder.BIG_ENDIAN).getLong(0);
+                headerBytes = HEADER_BYTES;
+            }
+
+            long pointOffset = headerBytes;
+            long historyOffset = pointOffset + pointCount * POINT_BYTES;
+            long scheduleOffset = historyOffset + historyCount * HISTORY_BYTES;
+            if (channel.size() != scheduleOffset + scheduleCount * SCHEDULE_BYTES) {
+                throw new IllegalStateException("Corrupted point snapshot file: " + path);
+            }
+
+            Map<Long, UserPoint> userPoints = readPoints(channel, pointOffset, pointCount);
+            Map<Long, List<PointHistory>> histories = readHistories(channel, historyOffset, historyCount, path);
+            List<ScheduledPointOperation> schedules = readSchedules(channel, scheduleOffset, scheduleCount, path);
+            return new Snapshot(userPoints, histories, schedules);
+        }
+    }
+
+    private static Map<Long, UserPoint> readPoints(FileChannel channel, long offset, long count) {
+        Map<Long, UserPoint> userPoints = new ConcurrentHashMap<>((int) Math.min(count * 4 / 3 + 1, Integer.MAX_VALUE));
+        long[][] chunks = chunks(count, POINT_BYTES);
+
+        IntStream.range(0, chunks.length).parallel().forEach(i -> {
+            long first = chunks[i][0];
+            int records = (int) chunks[i][1];
+            MappedByteBuffer buffer = map(channel, offset + first * POINT_BYTES, (long) records * POINT_BYTES);
+            for (int r = 0; r < records; r++) {
+                int base = r * POINT_BYTES;
+                UserPoint userPoint = new UserPoint(buffer.getLong(base), buffer.getLong(base + 8), buffer.getLong(base + 16));
+                userPoints.put(userPoint.id(), userPoint);
+            }
+        });
+        return userPoints;
+    }
+
+    private static Map<Long, List<PointHistory>> readHistories(FileChannel channel, long offset, long count, Path path) {
+        long[][] chunks = chunks(count, HISTORY_BYTES);
+
+        // 구간마다 사용자별로 묶은 뒤 구간 순서대로 이어 붙여 사용자별 내역 순서를 유지
+        List<Map<Long, List<PointHistory>>> grouped = IntStream.range(0, chunks.length).parallel().mapToObj(i -> {
+            long first = chunks[i][0];
+            int records = (int) chunks[i][1];
+            MappedByteBuffer buffer = map(channel, offset + first * HISTORY_BYTES, (long) records * HISTORY_BYTES);
+
+            Map<Long, List<PointHistory>> byUser = new LinkedHashMap<>();
+            for (int r = 0; r < records; r++) {
+                int base = r * HISTORY_BYTES;
+                PointHistory history = new PointHistory(
+                        buffer.getLong(base),
+                        buffer.getLong(base + 8),
+                        buffer.getLong(base + 16),
+                        transactionType(buffer.get(base + 24), path),
+                        buffer.getLong(base + 25));
+                byUser.computeIfAbsent(history.userId(), id -> new ArrayList<>()).add(history);
+            }
+            return byUser;
+        }).toList();
+
+        Map<Long, List<PointHistory>> histories = new LinkedHashMap<>();
+        for (Map<Long, List<PointHistory>> byUser : grouped) {
+            byUser.forEach((userId, userHistories) -> histories.merge(userId, userHistories, (left, right) -> {
+                left.addAll(right);
+                return left;
+            }));
+        }
+        return histories;
+    }
+
+    /**
+     * 실행 대기 중인 예약은 많지 않으므로 구간별로 순서대로 읽는다
+     */
+    private static List<ScheduledPointOperation> readSchedules(FileChannel channel, long offset, long count, Path path) {
+        List<ScheduledPointOperation> schedules = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+        for (long[] chunk : chunks(count, SCHEDULE_BYTES)) {
+            int records = (int) chunk[1];
+            MappedByteBuffer buffer = map(channel, offset + chunk[0] * SCHEDULE_BYTES, (long) records * SCHEDULE_BYTES);
+            for (int r = 0; r < records; r++) {
+                int base = r * SCHEDULE_BYTES;
+                schedules.add(new ScheduledPointOperation(
+                        buffer.getLong(base),
+                        buffer.getLong(base + 8),
+                        buffer.getLong(base + 16),
+                        scheduleType(buffer.get(base + 24), path),
+                        buffer.getLong(base + 25),
+                        buffer.getLong(base + 33)));
+            }
+        }
+        return schedules;
+    }
+
+    /**
+     * 내역/예약 종류 코드. enum 순서가 바뀌어도 파일 형식이 유지되도록 명시적으로 매핑한다.
+     */
+    private static byte code(TransactionType type) {
+        return switch (type) {
+            case CHARGE -> 0;
+            case USE -> 1;
+            case EXPIRE -> 2;
+        };
+    }
+
+    private static TransactionType transactionType(byte code, Path path) {
+        return switch (code) {
+            case 0 -> TransactionType.CHARGE;
+            case 1 -> TransactionType.USE;
+            case 2 -> TransactionType.EXPIRE;
+            default -> throw new IllegalStateException("Corrupted point snapshot file: " + path);
+        };
+    }
+
+    private static byte code(ScheduleType type) {
+        return switch (type) {
+            case CHARGE -> 0;
+            case USE -> 1;
+            case EXPIRE -> 2;
+        };
+    }
+
+    private static ScheduleType scheduleType(byte code, Path path) {
+        return switch (code) {
+            case 0 -> ScheduleType.CHARGE;
+            case 1 -> ScheduleType.USE;
+            case 2 -> ScheduleType.EXPIRE;
+            default -> throw new IllegalStateException("Corrupted point snapshot file: " + path);
+        };
+    }
+
+    /**
+     * @return {첫 레코드 index, 레코드 수} 목록. 구간 하나가 MAX_CHUNK_BYTES 를 넘지 않는다.
+     */
+    private static long[][] chunks(long count, int recordBytes) {
+        if (count == 0) {
+            return new long[0][];
+        }
+        long maxRecords = MAX_CHUNK_BYTES / recordBytes;
+        long byParallelism = (count + Runtime.getRuntime().availableProcessors() * 4L - 1) / (Runtime.getRuntime().availableProcessors() * 4L);
+        long recordsPerChunk = Math.max(1, Math.min(maxRecords, byParallelism));
+
+        int chunkCount = (int) ((count + recordsPerChunk - 1) / recordsPerChunk);
+        long[][] chunks = new long[chunkCount][];
+        for (int i = 0; i < chunkCount; i++) {
+            long first = i * recordsPerChunk;
+            chunks[i] = new long[]{first, Math.min(recordsPerChunk, count - first)};
+        }
+        return chunks;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
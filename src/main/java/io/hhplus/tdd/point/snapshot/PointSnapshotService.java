@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.database.ScheduledPointOperationTable;
+import io.hhplus.tdd.point.repository.PointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 포인트 잔액/내역/실행 대기 중인 예약 스냅샷 import/export.
+ * point.snapshot.path 가 설정되어 있으면 기동 시 스냅샷을 불러오고,
+ * point.snapshot.export-on-shutdown 이 true 면 종료 시 같은 경로로 내보낸다.
+ */
+@Service
+public class PointSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotService.class);
+
+    private final PointRepository pointRepository;
+    private final ScheduledPointOperationTable scheduledPointOperationTable;
+    private final String snapshotPath;
+    private final boolean exportOnShutdown;
+
+    public PointSnapshotService(
+            PointRepository pointRepository,
+            ScheduledPointOperationTable scheduledPointOperationTable,
+            @Value("${point.snapshot.path:}") String snapshotPath,
+            @Value("${point.snapshot.export-on-shutdown:false}") boolean exportOnShutdown
+    ) {
+        this.pointRepository = pointRepository;
+        this.scheduledPointOperationTable = scheduledPointOperationTable;
+        this.snapshotPath = snapshotPath;
+        this.exportOnShutdown = exportOnShutdown;
+    }
+
+    @PostConstruct
+    public void loadOnStartup() {
+        if (snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            log.info("Point snapshot not found. Start with empty tables. path: {}", path);
+            return;
+        }
+        load(path);
+    }
+
+    @PreDestroy
+    public void exportOnShutdown() {
+        if (exportOnShutdown && !snapshotPath.isBlank()) {
+            export(Path.of(snapshotPath));
+        }
+    }
+
+    /**
+     * 스냅샷 파일의 잔액/내역/예약을 저장소에 복원
+     * @param path
+     */
+    public void load(Path path) {
+        long startMillis = System.currentTimeMillis();
+        try {
+            PointSnapshotFile.Snapshot snapshot = PointSnapshotFile.read(path);
+            pointRepository.restore(snapshot.userPoints(), snapshot.histories());
+            scheduledPointOperationTable.restore(snapshot.schedules());
+            log.info("Point snapshot loaded. users: {}, schedules: {}, elapsed: {}ms, path: {}",
+                    snapshot.userPoints().size(), snapshot.schedules().size(), System.currentTimeMillis() - startMillis, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load point snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * 저장소의 잔액/내역/예약을 스냅샷 파일로 내보냄
+     * @param path
+     */
+    public void export(Path path) {
+        long startMillis = System.currentTimeMillis();
+        try {
+            PointSnapshotFile.write(path, pointRepository.getAllPoints(), pointRepository.getAllHistories(),
+                    scheduledPointOperationTable.selectAll());
+            log.info("Point snapshot exported. elapsed: {}ms, path: {}", System.currentTimeMillis() - startMillis, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export point snapshot: " + path, e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.hhplus.tdd.point;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
 import io.hhplus.tdd.point.exception.InvalidAmountException;
 import io.hhplus.tdd.point.exception.InvalidUserException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -128,7 +130,62 @@ class PointControllerTest {
         mockMvc.perform(patch("/point/{userId}/charge", userId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(point)))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"));
+    }
+
+    @Test
+    public void 잔액이_부족한_사용은_409_로_응답한다() throws Exception {
+        // given
+        long userId = 1L;
+        long point = 1000L;
+
+        // when
+        when(pointService.use(userId, point))
+                .thenThrow(new InsufficientPointException("Insufficient points. Available: 500, Requested: " + point));
+
+        // then
+        mockMvc.perform(patch("/point/{userId}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(point)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("409"));
+    }
+
+    @Test
+    public void 총_포인트_한도를_넘는_충전은_409_로_응답한다() throws Exception {
+        // given
+        long userId = 1L;
+        long point = 200_000L;
+
+        // when
+        when(pointService.charge(userId, point))
+                .thenThrow(new PointLimitExceededException("Total points exceed the limit of 10,000,000."));
+
+        // then
+        mockMvc.perform(patch("/point/{userId}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(point)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("409"));
+    }
+
+    @Test
+    public void 최대_잔액을_넘는_사용은_400_으로_응답한다() throws Exception {
+        // given
+        long userId = 1L;
+        long point = 10_000_001L;
+
+        // when
+        when(pointService.use(userId, point))
+                .thenThrow(new InvalidAmountException("Max allowed use is 10,000,000."));
+
+        // then
+        mockMvc.perform(patch("/point/{userId}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(point)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"));
     }
 
     @Test
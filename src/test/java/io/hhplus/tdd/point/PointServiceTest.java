@@ -1,16 +1,33 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.database.ScheduledPointOperationTable;
+import io.hhplus.tdd.point.event.PointEventStream;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
 import io.hhplus.tdd.point.exception.InvalidAmountException;
 import io.hhplus.tdd.point.exception.InvalidUserException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.schedule.PointGrantLedger;
+import io.hhplus.tdd.point.schedule.ScheduleType;
+import io.hhplus.tdd.point.schedule.ScheduledPointOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,6 +38,14 @@ class PointServiceTest {
     @Mock
     private PointRepository pointRepository;
 
+    @Mock
+    private PointEventStream pointEventStream;
+
+    private final ScheduledPointOperationTable scheduledPointOperationTable = new ScheduledPointOperationTable();
+
+    @Spy
+    private PointGrantLedger pointGrantLedger = new PointGrantLedger(scheduledPointOperationTable);
+
     @InjectMocks
     private PointService pointService;
 
@@ -125,6 +150,7 @@ class PointServiceTest {
         verify(pointRepository, times(1)).getPoint(userId); // getPoint 가 정확히 1번 호출되었는지 검증
         verify(pointRepository, times(1)).insertOrUpdate(userId, updatedUserPoint.point()); // insertOrUpdate 가 정확히 1번 호출되었는지 검증
         verify(pointRepository, times(1)).insertHistory(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong()); // insertHistory 가 정확히 1번 호출되었는지 검증
+        verify(pointEventStream, times(1)).publish(any()); // 변경 이벤트가 정확히 1번 발행되었는지 검증
     }
 
     @Test
@@ -154,11 +180,29 @@ class PointServiceTest {
         when(pointRepository.insertOrUpdate(userId, currentPoints + chargeAmount)).thenReturn(updatedUserPoint);
 
         // when & then
-        assertThrows(InvalidAmountException.class, () -> {
+        assertThrows(PointLimitExceededException.class, () -> {
             pointService.charge(userId, chargeAmount);
         });
     }
 
+    @Test
+    void 최대_잔액을_넘는_사용은_입력_오류로_조회_없이_실패한다() {
+        // given
+        long userId = 1L;
+        long useAmount = 10_000_001L;
+
+        // when
+        InvalidAmountException e = assertThrows(InvalidAmountException.class, () -> {
+            pointService.use(userId, useAmount);
+        });
+
+        // then
+        assertThat(e).isNotInstanceOf(InsufficientPointException.class);
+
+        // verify
+        verify(pointRepository, never()).getPoint(anyLong());
+    }
+
     @Test
     void 포인트_1회_충전금액이_1_000_000을_초과하면_실패한다() {
         // given
@@ -239,4 +283,239 @@ class PointServiceTest {
         // verify
         verify(pointRepository, never()).insertOrUpdate(anyLong(), anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 예약_작업은_사용자별로_한_번의_조회와_갱신으로_반영된다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+        ScheduledPointOperation expire = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.EXPIRE, now, charge.id());
+        charge = charge.withLinkedId(expire.id());
+        scheduledPointOperationTable.update(charge);
+        List<ScheduledPointOperation> operations = List.of(
+                charge,
+                scheduledPointOperationTable.insert(userId, 300L, ScheduleType.USE, now, 0L),
+                scheduledPointOperationTable.insert(userId, 5000L, ScheduleType.USE, now, 0L),    // 잔액 부족 → 건너뜀
+                expire                                                                          // 충전분 중 남은 700만 만료
+        );
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 0L, now));
+        when(pointRepository.insertOrUpdate(userId, 0L)).thenReturn(new UserPoint(userId, 0L, now));
+
+        // when
+        UserPoint result = pointService.applyScheduled(userId, operations);
+
+        // then
+        assertThat(result.point()).isEqualTo(0L);
+        assertThat(scheduledPointOperationTable.selectAllByUserId(userId)).isEmpty();
+
+        // verify
+        verify(pointRepository, times(1)).getPoint(userId);
+        verify(pointRepository, times(1)).insertOrUpdate(userId, 0L);
+        verify(pointRepository).insertHistory(eq(userId), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointRepository).insertHistory(eq(userId), eq(300L), eq(TransactionType.USE), anyLong());
+        verify(pointRepository).insertHistory(eq(userId), eq(700L), eq(TransactionType.EXPIRE), anyLong());
+        verify(pointRepository, times(3)).insertHistory(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void 예약_충전을_반영하는_중에도_잔액_힌트로_사용을_거절하지_않는다() throws Exception {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        AtomicLong balance = new AtomicLong(0L);
+        when(pointRepository.getPoint(userId)).thenAnswer(invocation -> new UserPoint(userId, balance.get(), now));
+        assertThrows(InsufficientPointException.class, () -> pointService.use(userId, 500L));   // 잔액 힌트 0 기록
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicReference<Future<UserPoint>> concurrentUse = new AtomicReference<>();
+        AtomicBoolean rejectedByHint = new AtomicBoolean();
+        when(pointRepository.insertOrUpdate(eq(userId), anyLong())).thenAnswer(invocation -> {
+            balance.set(invocation.getArgument(1));
+            if (concurrentUse.get() == null) {
+                // 포인트는 반영됐지만 아직 락을 쥔 상태에서 다른 스레드가 사용 요청
+                Future<UserPoint> future = executor.submit(() -> pointService.use(userId, 800L));
+                concurrentUse.set(future);
+                try {
+                    future.get(200, TimeUnit.MILLISECONDS);
+                } catch (ExecutionException e) {
+                    rejectedByHint.set(e.getCause() instanceof InsufficientPointException);
+                } catch (TimeoutException e) {
+                    // 힌트를 통과해 락을 기다리는 중 (정상)
+                }
+            }
+            return new UserPoint(userId, balance.get(), now);
+        });
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+
+        try {
+            // when
+            pointService.applyScheduled(userId, List.of(charge));
+
+            // then
+            assertThat(rejectedByHint).isFalse();
+            assertThat(concurrentUse.get().get(2, TimeUnit.SECONDS).point()).isEqualTo(200L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 만료는_다른_충전분을_건드리지_않고_남은_충전분만_차감한다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+        ScheduledPointOperation expire = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.EXPIRE, now + 1000L, charge.id());
+        charge = charge.withLinkedId(expire.id());
+        scheduledPointOperationTable.update(charge);
+
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 5000L, now));
+        when(pointRepository.insertOrUpdate(userId, 6000L)).thenReturn(new UserPoint(userId, 6000L, now));
+        pointService.applyScheduled(userId, List.of(charge));
+
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 6000L, now));
+        when(pointRepository.insertOrUpdate(userId, 5600L)).thenReturn(new UserPoint(userId, 5600L, now));
+        pointService.use(userId, 400L);     // 만료 예정 충전분에서 먼저 차감 → 600 남음
+
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 5600L, now));
+        when(pointRepository.insertOrUpdate(userId, 5000L)).thenReturn(new UserPoint(userId, 5000L, now));
+
+        // when
+        UserPoint result = pointService.applyScheduled(userId, List.of(expire));
+
+        // then
+        assertThat(result.point()).isEqualTo(5000L);
+        assertThat(scheduledPointOperationTable.selectAllByUserId(userId)).isEmpty();
+
+        // verify
+        verify(pointRepository).insertHistory(eq(userId), eq(600L), eq(TransactionType.EXPIRE), anyLong());
+    }
+
+    @Test
+    void 한도_초과로_건너뛴_예약_충전은_연결된_만료도_취소한다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+        ScheduledPointOperation expire = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.EXPIRE, now + 1000L, charge.id());
+        charge = charge.withLinkedId(expire.id());
+        scheduledPointOperationTable.update(charge);
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 9_999_500L, now));
+
+        // when
+        pointService.applyScheduled(userId, List.of(charge));
+
+        // then
+        assertThat(scheduledPointOperationTable.selectAllByUserId(userId)).isEmpty();
+
+        // verify
+        verify(pointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointRepository, never()).insertHistory(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void 실행_전에_취소된_예약은_반영하지_않는다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 0L, now));
+
+        // when
+        boolean cancelled = pointService.cancelScheduled(userId, charge.id());
+        UserPoint result = pointService.applyScheduled(userId, List.of(charge));   // 취소 전에 실행 대상으로 꺼낸 작업
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(result.point()).isEqualTo(0L);
+
+        // verify
+        verify(pointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    void 예약_충전을_취소하면_연결된_만료도_취소된다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.CHARGE, now, 0L);
+        ScheduledPointOperation expire = scheduledPointOperationTable.insert(userId, 1000L, ScheduleType.EXPIRE, now + 1000L, charge.id());
+        scheduledPointOperationTable.update(charge.withLinkedId(expire.id()));
+
+        // when
+        boolean cancelled = pointService.cancelScheduled(userId, charge.id());
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(scheduledPointOperationTable.selectAllByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    void 다른_사용자의_예약은_취소할_수_없다() {
+        // given
+        long now = System.currentTimeMillis();
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.CHARGE, now, 0L);
+
+        // when
+        boolean cancelled = pointService.cancelScheduled(2L, charge.id());
+
+        // then
+        assertThat(cancelled).isFalse();
+        assertThat(scheduledPointOperationTable.selectById(charge.id())).isEqualTo(charge);
+    }
+
+    @Test
+    void 사용_금액이_0이면_락과_조회_없이_실패한다() {
+        // given
+        long userId = 1L;
+
+        // when & then
+        assertThrows(InvalidAmountException.class, () -> {
+            pointService.use(userId, 0L);
+        });
+
+        // verify
+        verify(pointRepository, never()).getPoint(anyLong());
+    }
+
+    @Test
+    void 잔액_힌트보다_큰_사용은_조회_없이_실패한다() {
+        // given
+        long userId = 1L;
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        assertThrows(InsufficientPointException.class, () -> {
+            pointService.use(userId, 1000L);    // 잔액 조회 후 실패 → 잔액 힌트(500) 기록
+        });
+
+        // when & then
+        assertThrows(InsufficientPointException.class, () -> {
+            pointService.use(userId, 1000L);
+        });
+
+        // verify
+        verify(pointRepository, times(1)).getPoint(userId);    // 두 번째 요청은 조회하지 않음
+    }
+
+    @Test
+    void 충전_이후에는_잔액_힌트가_충전된_잔액을_반영한다() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 500L, now));
+        assertThrows(InsufficientPointException.class, () -> {
+            pointService.use(userId, 1000L);    // 잔액 힌트(500) 기록
+        });
+        when(pointRepository.insertOrUpdate(userId, 1500L)).thenReturn(new UserPoint(userId, 1500L, now));
+        pointService.charge(userId, 1000L);     // 잔액 힌트(1500) 갱신
+
+        when(pointRepository.getPoint(userId)).thenReturn(new UserPoint(userId, 1500L, now));
+        when(pointRepository.insertOrUpdate(userId, 500L)).thenReturn(new UserPoint(userId, 500L, now));
+
+        // when
+        UserPoint result = pointService.use(userId, 1000L);
+
+        // then
+        assertThat(result.point()).isEqualTo(500L);
+    }
+}
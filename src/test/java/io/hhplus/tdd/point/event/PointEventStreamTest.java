@@ -0,0 +1,306 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PointEventStreamTest {
+
+    private static final long EPOCH = 1_700_000_000_000L;
+
+    private final PointEventStream pointEventStream = new PointEventStream(EPOCH);
+
+    @Test
+    void 커서_이후의_이벤트만_조회된다() {
+        // given
+        publish(5);
+
+        // when
+        PointEventBatch batch = pointEventStream.read(new PointEventCursor(EPOCH, 2L), 100);
+
+        // then
+        assertThat(batch.gap()).isNull();
+        assertThat(batch.events()).extracting(PointChangeEvent::sequence).containsExactly(3L, 4L, 5L);
+        assertThat(batch.events()).extracting(event -> event.history().id()).containsExactly(3L, 4L, 5L);
+        assertThat(batch.cursor()).isEqualTo(new PointEventCursor(EPOCH, 5L));
+    }
+
+    @Test
+    void 용량을_넘게_뒤처진_커서는_유실_표식과_함께_남아있는_가장_오래된_이벤트부터_조회된다() {
+        // given
+        int published = PointEventStream.CAPACITY + 10;
+        publish(published);
+
+        // when
+        PointEventBatch batch = pointEventStream.read(new PointEventCursor(EPOCH, 5L), 1);
+
+        // then
+        long oldest = published - PointEventStream.CAPACITY + 1;
+        assertThat(batch.gap()).isEqualTo(new PointEventGap(PointEventGap.Reason.EVENTS_LOST, oldest - 5L - 1));
+        assertThat(batch.events()).extracting(PointChangeEvent::sequence).containsExactly(oldest);
+    }
+
+    @Test
+    void 커서_없이_처음_구독하면_지난_이벤트_없이_현재_위치부터_조회된다() {
+        // given
+        publish(PointEventStream.CAPACITY + 10);
+
+        // when
+        PointEventBatch batch = pointEventStream.read(new PointEventCursor(0L, 0L), 100);
+
+        // then
+        assertThat(batch.gap()).isNull();
+        assertThat(batch.events()).isEmpty();
+        assertThat(batch.cursor()).isEqualTo(new PointEventCursor(EPOCH, PointEventStream.CAPACITY + 10));
+    }
+
+    @Test
+    void 커서_없이_long_poll_하면_이후에_발행된_이벤트만_받는다() throws InterruptedException {
+        // given
+        publish(3);
+        DeferredResult<PointEventBatch> result = pointEventStream.poll(new PointEventCursor(0L, 0L), 100, 10_000L);
+        assertThat(result.hasResult()).isFalse();
+
+        // when
+        publish(1);
+
+        // then
+        awaitResult(result);
+        assertThat(((PointEventBatch) result.getResult()).events()).extracting(PointChangeEvent::sequence).containsExactly(4L);
+    }
+
+    @Test
+    void 재기동_전_epoch_의_커서는_초기화_표식과_함께_처음부터_조회된다() {
+        // given
+        publish(3);
+
+        // when
+        PointEventBatch batch = pointEventStream.read(new PointEventCursor(EPOCH - 1, 2L), 100);
+
+        // then
+        assertThat(batch.gap().reason()).isEqualTo(PointEventGap.Reason.STREAM_RESET);
+        assertThat(batch.events()).extracting(PointChangeEvent::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(batch.cursor()).isEqualTo(new PointEventCursor(EPOCH, 3L));
+    }
+
+    @Test
+    void epoch_없이_아직_발행되지_않은_sequence_로_재개하면_초기화_표식을_받는다() {
+        // given
+        publish(3);
+
+        // when
+        PointEventBatch batch = pointEventStream.read(PointEventCursor.parse("500"), 100);
+
+        // then
+        assertThat(batch.gap().reason()).isEqualTo(PointEventGap.Reason.STREAM_RESET);
+        assertThat(batch.events()).hasSize(3);
+    }
+
+    @Test
+    void 이벤트_id_는_epoch_와_sequence_로_변환된다() {
+        // given
+        PointEventCursor cursor = new PointEventCursor(EPOCH, 42L);
+
+        // when & then
+        assertThat(PointEventCursor.parse(cursor.toEventId())).isEqualTo(cursor);
+        assertThat(PointEventCursor.parse("invalid").epoch()).isEqualTo(-1L);
+    }
+
+    @Test
+    void 새_이벤트가_있으면_long_poll_은_즉시_완료된다() {
+        // given
+        publish(1);
+
+        // when
+        DeferredResult<PointEventBatch> result = pointEventStream.poll(new PointEventCursor(EPOCH, 0L), 100, 10_000L);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((PointEventBatch) result.getResult()).events()).hasSize(1);
+    }
+
+    @Test
+    void 새_이벤트가_없으면_long_poll_은_대기하다가_발행시_완료된다() throws InterruptedException {
+        // given
+        publish(1);
+        DeferredResult<PointEventBatch> result = pointEventStream.poll(new PointEventCursor(EPOCH, 1L), 100, 10_000L);
+        assertThat(result.hasResult()).isFalse();
+
+        // when
+        publish(1);
+
+        // then
+        awaitResult(result);
+        assertThat(((PointEventBatch) result.getResult()).events()).extracting(PointChangeEvent::sequence).containsExactly(2L);
+    }
+
+    @Test
+    void 전송이_막힌_구독자가_있어도_다른_구독자와_long_poll_은_이벤트를_받는다() throws InterruptedException {
+        // given
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch sendEntered = new CountDownLatch(1);
+        Set<String> completedOn = ConcurrentHashMap.newKeySet();
+        List<String> received = new CopyOnWriteArrayList<>();
+        AtomicInteger created = new AtomicInteger();
+        PointEventStream stream = new PointEventStream(EPOCH) {
+            @Override
+            SseEmitter newEmitter() {
+                return created.getAndIncrement() == 0
+                        ? blockingEmitter(stuck, sendEntered, completedOn)
+                        : recordingEmitter(received);
+            }
+        };
+
+        try {
+            stream.subscribe(new PointEventCursor(EPOCH, 0L));     // 전송이 막히는 구독자
+            stream.subscribe(new PointEventCursor(EPOCH, 0L));
+            publish(stream, 1);
+            assertThat(sendEntered.await(2, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            publish(stream, PointEventStream.CAPACITY + 1);     // 막힌 구독자가 ring 용량보다 뒤처짐 → 연결 끊기
+            DeferredResult<PointEventBatch> result = stream.poll(new PointEventCursor(EPOCH, PointEventStream.CAPACITY + 2), 100, 10_000L);
+            publish(stream, 1);
+
+            // then
+            awaitResult(result);
+            assertThat(((PointEventBatch) result.getResult()).events()).extracting(PointChangeEvent::sequence)
+                    .containsExactly(PointEventStream.CAPACITY + 3L);
+
+            String lastEventId = "id:" + new PointEventCursor(EPOCH, PointEventStream.CAPACITY + 3).toEventId();
+            long deadline = System.currentTimeMillis() + 2_000L;
+            while ((completedOn.isEmpty() || received.stream().noneMatch(text -> text.contains(lastEventId)))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(received).anyMatch(text -> text.contains(lastEventId));
+            assertThat(completedOn).isNotEmpty().allMatch(thread -> thread.startsWith("point-event-closer"));   // dispatcher 는 emitter 를 건드리지 않음
+        } finally {
+            stuck.countDown();
+            stream.shutdown();
+        }
+    }
+
+    @Test
+    void 전송이_막힌_구독자가_있어도_종료는_기다리지_않는다() throws InterruptedException {
+        // given
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch sendEntered = new CountDownLatch(1);
+        PointEventStream stream = new PointEventStream(EPOCH) {
+            @Override
+            SseEmitter newEmitter() {
+                return blockingEmitter(stuck, sendEntered, ConcurrentHashMap.newKeySet());
+            }
+        };
+        stream.subscribe(new PointEventCursor(EPOCH, 0L));
+        publish(stream, 1);
+        assertThat(sendEntered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when & then
+            assertTimeoutPreemptively(Duration.ofSeconds(2), stream::shutdown);
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    void 커서_없이_SSE_를_구독하면_지난_이벤트를_다시_보내지_않는다() throws InterruptedException {
+        // given
+        List<String> received = new CopyOnWriteArrayList<>();
+        PointEventStream stream = new PointEventStream(EPOCH) {
+            @Override
+            SseEmitter newEmitter() {
+                return recordingEmitter(received);
+            }
+        };
+        publish(stream, 3);
+
+        try {
+            // when
+            stream.subscribe(new PointEventCursor(0L, 0L));
+            publish(stream, 1);
+
+            // then
+            String newEventId = "id:" + new PointEventCursor(EPOCH, 4L).toEventId();
+            long deadline = System.currentTimeMillis() + 2_000L;
+            while (received.stream().noneMatch(text -> text.contains(newEventId)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(received).anyMatch(text -> text.contains(newEventId));
+            assertThat(received).noneMatch(text -> text.contains("id:" + new PointEventCursor(EPOCH, 3L).toEventId()));
+        } finally {
+            stream.shutdown();
+        }
+    }
+
+    private static SseEmitter blockingEmitter(CountDownLatch stuck, CountDownLatch sendEntered, Set<String> completedOn) {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sendEntered.countDown();
+                awaitQuietly(stuck);    // 응답을 읽지 않는 클라이언트
+            }
+
+            @Override
+            public void complete() {
+                completedOn.add(Thread.currentThread().getName());
+                awaitQuietly(stuck);    // 막힌 send 와 같은 락을 기다림
+            }
+        };
+    }
+
+    private static SseEmitter recordingEmitter(List<String> received) {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                    if (part.getData() instanceof String text) {
+                        received.add(text);
+                    }
+                }
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitResult(DeferredResult<PointEventBatch> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000L;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(result.hasResult()).isTrue();
+    }
+
+    private void publish(int count) {
+        publish(pointEventStream, count);
+    }
+
+    private static void publish(PointEventStream stream, int count) {
+        for (int i = 0; i < count; i++) {
+            stream.publish(new PointHistory(i + 1, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+        }
+    }
+}
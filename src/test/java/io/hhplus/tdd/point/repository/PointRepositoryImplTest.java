@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointRepositoryImplTest {
+
+    private final PointRepositoryImpl pointRepository = new PointRepositoryImpl(new UserPointTable(), new PointHistoryTable());
+
+    @Test
+    void 스냅샷으로_복원한_포인트와_내역을_조회한다() {
+        // given
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 500L, 1_700_000_000_000L);
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1_700_000_000_000L),
+                new PointHistory(2L, userId, 500L, TransactionType.USE, 1_700_000_000_001L)
+        );
+
+        // when
+        pointRepository.restore(Map.of(userId, userPoint), Map.of(userId, histories));
+
+        // then
+        assertThat(pointRepository.getPoint(userId)).isEqualTo(userPoint);
+        assertThat(pointRepository.getHistory(userId)).containsExactlyElementsOf(histories);
+        assertThat(pointRepository.getPoint(2L).point()).isEqualTo(0L);     // 복원되지 않은 유저는 테이블에서 조회
+        assertThat(pointRepository.getAllPoints()).containsExactly(userPoint);
+    }
+
+    @Test
+    void 복원_이후_기록한_내역_id_는_복원된_내역_id_와_겹치지_않는다() {
+        // given
+        long userId = 1L;
+        pointRepository.restore(
+                Map.of(userId, new UserPoint(userId, 500L, 1_700_000_000_000L)),
+                Map.of(userId, List.of(
+                        new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1_700_000_000_000L),
+                        new PointHistory(7L, userId, 500L, TransactionType.USE, 1_700_000_000_001L)),
+                        2L, List.of(
+                        new PointHistory(5L, 2L, 300L, TransactionType.CHARGE, 1_700_000_000_002L))));
+
+        // when
+        PointHistory charged = pointRepository.insertHistory(userId, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory used = pointRepository.insertHistory(2L, 100L, TransactionType.USE, System.currentTimeMillis());
+
+        // then
+        assertThat(charged.id()).isGreaterThan(7L);
+        assertThat(used.id()).isGreaterThan(charged.id());
+        assertThat(pointRepository.getHistory(userId)).extracting(PointHistory::id).containsExactly(1L, 7L, charged.id());
+        assertThat(pointRepository.getHistory(2L)).extracting(PointHistory::id).containsExactly(5L, used.id());
+    }
+
+    @Test
+    void 조회한_내역은_이후에_기록한_내역의_영향을_받지_않는다() {
+        // given
+        long userId = 1L;
+        pointRepository.insertHistory(userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+        List<PointHistory> histories = pointRepository.getHistory(userId);
+
+        // when
+        pointRepository.insertHistory(userId, 500L, TransactionType.USE, System.currentTimeMillis());
+
+        // then
+        assertThat(histories).hasSize(1);
+        assertThat(pointRepository.getHistory(userId)).hasSize(2);
+    }
+
+    @Test
+    void 복원_이후_갱신한_포인트를_조회한다() {
+        // given
+        long userId = 1L;
+        pointRepository.restore(Map.of(userId, new UserPoint(userId, 500L, 1_700_000_000_000L)), Map.of());
+
+        // when
+        UserPoint updated = pointRepository.insertOrUpdate(userId, 800L);
+
+        // then
+        assertThat(pointRepository.getPoint(userId)).isEqualTo(updated);
+        assertThat(pointRepository.getPoint(userId).point()).isEqualTo(800L);
+    }
+}
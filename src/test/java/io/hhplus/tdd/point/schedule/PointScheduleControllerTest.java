@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.exception.InvalidAmountException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PointScheduleController.class)
+class PointScheduleControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    PointScheduler pointScheduler;
+
+    @Test
+    void 만료를_포함한_예약_충전에_성공한다() throws Exception {
+        // given
+        long userId = 1L;
+        long executeAtMillis = System.currentTimeMillis() + 60_000L;
+        ScheduleRequest request = new ScheduleRequest(ScheduleType.CHARGE, 1000L, executeAtMillis, 30);
+        List<ScheduledPointOperation> operations = List.of(
+                new ScheduledPointOperation(1L, userId, 1000L, ScheduleType.CHARGE, executeAtMillis, 2L),
+                new ScheduledPointOperation(2L, userId, 1000L, ScheduleType.EXPIRE, executeAtMillis + 30L * 24 * 60 * 60 * 1000, 1L)
+        );
+
+        // when
+        when(pointScheduler.schedule(eq(userId), any(ScheduleRequest.class))).thenReturn(operations);
+
+        // then
+        mockMvc.perform(post("/point/{id}/schedules", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("CHARGE"))
+                .andExpect(jsonPath("$[0].linkedId").value(2L))
+                .andExpect(jsonPath("$[1].type").value("EXPIRE"))
+                .andExpect(jsonPath("$[1].linkedId").value(1L));
+
+        // verify
+        verify(pointScheduler).schedule(userId, request);
+    }
+
+    @Test
+    void 잘못된_예약_요청은_400을_반환한다() throws Exception {
+        // given
+        long userId = 1L;
+        ScheduleRequest request = new ScheduleRequest(ScheduleType.EXPIRE, 1000L, System.currentTimeMillis(), null);
+
+        // when
+        when(pointScheduler.schedule(eq(userId), any(ScheduleRequest.class)))
+                .thenThrow(new InvalidAmountException("Schedule type must be CHARGE or USE."));
+
+        // then
+        mockMvc.perform(post("/point/{id}/schedules", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"));
+    }
+
+    @Test
+    void 특정_유저의_실행_대기_중인_예약을_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        long executeAtMillis = System.currentTimeMillis() + 60_000L;
+
+        // when
+        when(pointScheduler.getPending(userId)).thenReturn(List.of(
+                new ScheduledPointOperation(1L, userId, 500L, ScheduleType.USE, executeAtMillis, 0L)));
+
+        // then
+        mockMvc.perform(get("/point/{id}/schedules", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].userId").value(userId))
+                .andExpect(jsonPath("$[0].executeAtMillis").value(executeAtMillis));
+    }
+
+    @Test
+    void 예약_취소는_경로의_유저_id_로_소유자를_확인한다() throws Exception {
+        // given
+        long userId = 2L;
+        long scheduleId = 10L;
+
+        // when
+        when(pointScheduler.cancel(userId, scheduleId)).thenReturn(false);   // 다른 유저의 예약
+
+        // then
+        mockMvc.perform(delete("/point/{id}/schedules/{scheduleId}", userId, scheduleId))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+
+        // verify
+        verify(pointScheduler).cancel(userId, scheduleId);
+    }
+}
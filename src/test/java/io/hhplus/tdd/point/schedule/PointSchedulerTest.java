@@ -0,0 +1,216 @@
+package io.hhplus.tdd.point.schedule;
+
+import io.hhplus.tdd.database.ScheduledPointOperationTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointEventStream;
+import io.hhplus.tdd.point.exception.InvalidAmountException;
+import io.hhplus.tdd.point.repository.PointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class PointSchedulerTest {
+
+    private final PointRepository pointRepository = mock(PointRepository.class);
+    private final ScheduledPointOperationTable scheduledPointOperationTable = new ScheduledPointOperationTable();
+    private final PointService pointService = new PointService(
+            pointRepository, mock(PointEventStream.class), new PointGrantLedger(scheduledPointOperationTable));
+    private final PointScheduler pointScheduler = new PointScheduler(scheduledPointOperationTable, pointService);
+
+    private final Map<Long, Long> balances = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(pointRepository.getPoint(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            return new UserPoint(userId, balances.getOrDefault(userId, 0L), System.currentTimeMillis());
+        });
+        when(pointRepository.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            long point = invocation.getArgument(1);
+            balances.put(userId, point);
+            return new UserPoint(userId, point, System.currentTimeMillis());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointScheduler.stop();
+    }
+
+    @Test
+    void 실행_시각이_된_예약을_사용자별로_묶어_한_번에_반영한다() {
+        // given
+        long now = System.currentTimeMillis();
+        scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.CHARGE, now - 2000L, 0L);
+        scheduledPointOperationTable.insert(1L, 300L, ScheduleType.USE, now - 1000L, 0L);
+        scheduledPointOperationTable.insert(2L, 500L, ScheduleType.CHARGE, now - 1000L, 0L);
+
+        // when
+        pointScheduler.start();     // 스냅샷에서 복원된 밀린 예약을 바로 실행
+
+        // then
+        verify(pointRepository, timeout(2000).times(1)).insertOrUpdate(1L, 700L);
+        verify(pointRepository, timeout(2000).times(1)).insertOrUpdate(2L, 500L);
+        verify(pointRepository, times(1)).getPoint(1L);     // 사용자당 한 번만 조회
+        verify(pointRepository).insertHistory(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointRepository).insertHistory(eq(1L), eq(300L), eq(TransactionType.USE), anyLong());
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();
+    }
+
+    @Test
+    void 예약_충전에_만료를_함께_요청하면_서로_연결된_예약이_등록된다() {
+        // given
+        pointScheduler.start();
+        long executeAtMillis = System.currentTimeMillis() + 60_000L;
+
+        // when
+        List<ScheduledPointOperation> operations = pointScheduler.schedule(1L, new ScheduleRequest(ScheduleType.CHARGE, 1000L, executeAtMillis, 30));
+
+        // then
+        assertThat(operations).hasSize(2);
+        ScheduledPointOperation charge = operations.get(0);
+        ScheduledPointOperation expire = operations.get(1);
+        assertThat(charge.linkedId()).isEqualTo(expire.id());
+        assertThat(expire.type()).isEqualTo(ScheduleType.EXPIRE);
+        assertThat(expire.linkedId()).isEqualTo(charge.id());     // 충전 전까지 비활성
+        assertThat(expire.executeAtMillis()).isEqualTo(executeAtMillis + 30L * 24 * 60 * 60 * 1000);
+        assertThat(pointScheduler.getPending(1L)).containsExactly(charge, expire);
+    }
+
+    @Test
+    void 충전이_반영되면_연결된_만료가_남은_충전분만_차감한다() {
+        // given
+        long now = System.currentTimeMillis();
+        balances.put(1L, 5000L);
+        ScheduledPointOperation charge = scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.CHARGE, now - 2000L, 0L);
+        ScheduledPointOperation expire = scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.EXPIRE, now + 1000L, charge.id());
+        scheduledPointOperationTable.update(charge.withLinkedId(expire.id()));
+        pointScheduler.start();
+        verify(pointRepository, timeout(3000)).insertOrUpdate(1L, 6000L);
+
+        // when
+        pointService.use(1L, 400L);
+
+        // then
+        verify(pointRepository, timeout(3000)).insertOrUpdate(1L, 5000L);
+        verify(pointRepository).insertHistory(eq(1L), eq(600L), eq(TransactionType.EXPIRE), anyLong());
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();
+    }
+
+    @Test
+    void 실행_전에_취소한_예약은_반영하지_않는다() throws InterruptedException {
+        // given
+        pointScheduler.start();
+        List<ScheduledPointOperation> operations = pointScheduler.schedule(1L,
+                new ScheduleRequest(ScheduleType.CHARGE, 1000L, System.currentTimeMillis() + 200L, null));
+
+        // when
+        boolean cancelled = pointScheduler.cancel(1L, operations.get(0).id());
+        Thread.sleep(500L);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(pointScheduler.getPending(1L)).isEmpty();
+        verify(pointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    void 다른_사용자의_예약은_취소할_수_없다() {
+        // given
+        pointScheduler.start();
+        List<ScheduledPointOperation> operations = pointScheduler.schedule(1L,
+                new ScheduleRequest(ScheduleType.CHARGE, 1000L, System.currentTimeMillis() + 60_000L, null));
+
+        // when
+        boolean cancelled = pointScheduler.cancel(2L, operations.get(0).id());
+
+        // then
+        assertThat(cancelled).isFalse();
+        assertThat(pointScheduler.getPending(1L)).containsExactlyElementsOf(operations);
+    }
+
+    @Test
+    void 반영에_실패한_예약은_다시_예약해_실행한다() {
+        // given
+        long now = System.currentTimeMillis();
+        when(pointRepository.getPoint(1L))
+                .thenThrow(new IllegalStateException("temporary failure"))
+                .thenReturn(new UserPoint(1L, 0L, now));
+        scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.CHARGE, now - 1000L, 0L);
+
+        // when
+        pointScheduler.start();
+
+        // then
+        verify(pointRepository, timeout(3000)).insertOrUpdate(1L, 1000L);
+        verify(pointRepository, times(2)).getPoint(1L);
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();
+    }
+
+    @Test
+    void 종료는_실행_중인_예약이_끝날_때까지_기다린다() {
+        // given
+        long now = System.currentTimeMillis();
+        when(pointRepository.getPoint(1L)).thenAnswer(invocation -> {
+            Thread.sleep(300L);     // 반영 중에 종료 요청
+            return new UserPoint(1L, 0L, now);
+        });
+        scheduledPointOperationTable.insert(1L, 1000L, ScheduleType.CHARGE, now - 1000L, 0L);
+        pointScheduler.start();
+        verify(pointRepository, timeout(2000)).getPoint(1L);
+
+        // when
+        pointScheduler.stop();
+
+        // then
+        verify(pointRepository).insertOrUpdate(1L, 1000L);     // export 전에 반영이 끝나 있음
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();
+    }
+
+    @Test
+    void 실행_시각이_없거나_0_이하면_실패한다() {
+        // given
+        ScheduleRequest missing = new ScheduleRequest(ScheduleType.CHARGE, 1000L, null, null);
+        ScheduleRequest zero = new ScheduleRequest(ScheduleType.USE, 1000L, 0L, null);
+
+        // when & then
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, missing));
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, zero));
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();
+    }
+
+    @Test
+    void 허용_범위를_넘는_실행_시각이나_만료_기간은_실패한다() {
+        // given
+        long now = System.currentTimeMillis();
+        ScheduleRequest farFuture = new ScheduleRequest(ScheduleType.CHARGE, 1000L, now + 366L * 24 * 60 * 60 * 1000, null);
+        ScheduleRequest overflow = new ScheduleRequest(ScheduleType.CHARGE, 1000L, Long.MAX_VALUE, null);
+        ScheduleRequest longExpiry = new ScheduleRequest(ScheduleType.CHARGE, 1000L, now + 60_000L, Integer.MAX_VALUE);
+
+        // when & then
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, farFuture));
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, overflow));
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, longExpiry));
+        assertThat(scheduledPointOperationTable.selectAll()).isEmpty();     // 만료만 빠진 충전이 남지 않음
+    }
+
+    @Test
+    void 만료는_직접_예약할_수_없다() {
+        // given
+        ScheduleRequest request = new ScheduleRequest(ScheduleType.EXPIRE, 1000L, System.currentTimeMillis(), null);
+
+        // when & then
+        assertThrows(InvalidAmountException.class, () -> pointScheduler.schedule(1L, request));
+    }
+}
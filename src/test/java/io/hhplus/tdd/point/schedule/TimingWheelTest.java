@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimingWheelTest {
+
+    private static final long START_MILLIS = 1_000_000L;
+    private static final long TICK_MILLIS = 100L;
+
+    private final DelayQueue<TimerBucket> queue = new DelayQueue<>();
+    private final TimingWheel timingWheel = new TimingWheel(TICK_MILLIS, 8, START_MILLIS, queue);
+
+    @Test
+    void 실행_시각이_지난_작업은_등록되지_않는다() {
+        // given
+        ScheduledPointOperation operation = operation(1L, START_MILLIS);
+
+        // when & then
+        assertThat(timingWheel.add(operation)).isFalse();
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void 실행_시각은_tick_단위로_올림되어_등록된다() {
+        // given
+        timingWheel.add(operation(1L, START_MILLIS + 150));
+        timingWheel.add(operation(2L, START_MILLIS + 200));
+
+        // when & then
+        assertThat(queue).hasSize(1);
+        assertThat(queue.peek().getExpiration()).isEqualTo(START_MILLIS + 200);  // +150 도 +100 이 아닌 +200 칸
+    }
+
+    @Test
+    void 올림한_실행_시각이_넘치면_즉시_실행하지_않고_실패한다() {
+        // given
+        ScheduledPointOperation operation = operation(1L, Long.MAX_VALUE);
+
+        // when & then
+        assertThrows(ArithmeticException.class, () -> timingWheel.add(operation));
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void 상위_휠의_작업은_시간이_흐르면_하위_휠을_거쳐_만료된다() {
+        // given
+        long executeAtMillis = START_MILLIS + 2_450;    // 하위 휠 한 바퀴(800ms)를 넘는 작업
+        timingWheel.add(operation(1L, executeAtMillis));
+        assertThat(queue.peek().getExpiration()).isEqualTo(START_MILLIS + 2_400);  // 상위 휠(800ms 칸)에 등록
+
+        // when
+        Map<Long, Long> fired = runUntil(START_MILLIS + 3_000);
+
+        // then
+        assertThat(fired).containsEntry(1L, START_MILLIS + 2_500);   // 상위 휠 → 하위 휠(+2,500 칸) → 만료
+    }
+
+    @Test
+    void 어떤_작업도_실행_시각보다_먼저_만료되지_않는다() {
+        // given
+        List<ScheduledPointOperation> operations = new ArrayList<>();
+        for (long offset = 1; offset <= 20_000; offset += 37) {
+            operations.add(operation(offset, START_MILLIS + offset));
+        }
+        operations.forEach(timingWheel::add);
+
+        // when
+        Map<Long, Long> fired = runUntil(START_MILLIS + 21_000);
+
+        // then
+        assertThat(fired).hasSize(operations.size());
+        for (ScheduledPointOperation operation : operations) {
+            long firedAt = fired.get(operation.id());
+            assertThat(firedAt).isGreaterThanOrEqualTo(operation.executeAtMillis());
+            assertThat(firedAt - operation.executeAtMillis()).isLessThan(TICK_MILLIS);
+        }
+    }
+
+    /**
+     * 실제 시간을 기다리지 않고 가상 시각을 1ms 씩 진행하며 만료된 버킷을 처리한다.
+     * @return 작업 id → 만료된 가상 시각
+     */
+    private Map<Long, Long> runUntil(long endMillis) {
+        Map<Long, Long> fired = new HashMap<>();
+        for (long now = START_MILLIS; now <= endMillis; now++) {
+            TimerBucket bucket;
+            while ((bucket = pollExpired(now)) != null) {
+                timingWheel.advanceClock(bucket.getExpiration());
+                for (ScheduledPointOperation operation : bucket.flush()) {
+                    if (!timingWheel.add(operation)) {
+                        fired.put(operation.id(), now);
+                    }
+                }
+            }
+        }
+        return fired;
+    }
+
+    private TimerBucket pollExpired(long now) {
+        TimerBucket earliest = queue.stream().min(TimerBucket::compareTo).orElse(null);
+        if (earliest == null || earliest.getExpiration() > now) {
+            return null;
+        }
+        queue.remove(earliest);
+        return earliest;
+    }
+
+    private static ScheduledPointOperation operation(long id, long executeAtMillis) {
+        return new ScheduledPointOperation(id, 1L, 100L, ScheduleType.CHARGE, executeAtMillis, 0L);
+    }
+}
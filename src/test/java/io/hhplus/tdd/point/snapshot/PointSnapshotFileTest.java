@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.schedule.ScheduleType;
+import io.hhplus.tdd.point.schedule.ScheduledPointOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 내보낸_스냅샷을_그대로_복원한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("point.snapshot");
+        List<UserPoint> userPoints = new ArrayList<>();
+        Map<Long, List<PointHistory>> histories = new LinkedHashMap<>();
+        long historyId = 1L;
+        for (long userId = 1; userId <= 1_000; userId++) {
+            userPoints.add(new UserPoint(userId, userId * 10, 1_700_000_000_000L + userId));
+            List<PointHistory> userHistories = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                userHistories.add(new PointHistory(historyId++, userId, 100L + i, type, 1_700_000_000_000L + i));
+            }
+            histories.put(userId, userHistories);
+        }
+        List<ScheduledPointOperation> schedules = List.of(
+                new ScheduledPointOperation(1L, 1L, 1_000L, ScheduleType.CHARGE, 1_800_000_000_000L, 2L),
+                new ScheduledPointOperation(2L, 1L, 1_000L, ScheduleType.EXPIRE, 1_800_086_400_000L, 1L),
+                new ScheduledPointOperation(3L, 2L, 500L, ScheduleType.USE, 1_800_000_000_000L, 0L)
+        );
+
+        // when
+        PointSnapshotFile.write(path, userPoints, histories, schedules);
+        PointSnapshotFile.Snapshot snapshot = PointSnapshotFile.read(path);
+
+        // then
+        assertThat(Files.size(path)).isEqualTo(PointSnapshotFile.HEADER_BYTES
+                + 1_000L * PointSnapshotFile.POINT_BYTES
+                + 3_000L * PointSnapshotFile.HISTORY_BYTES
+                + 3L * PointSnapshotFile.SCHEDULE_BYTES);
+        assertThat(snapshot.userPoints()).hasSize(1_000);
+        assertThat(snapshot.userPoints().get(500L)).isEqualTo(new UserPoint(500L, 5_000L, 1_700_000_000_500L));
+        assertThat(snapshot.histories()).hasSize(1_000);
+        assertThat(snapshot.histories().get(500L)).containsExactlyElementsOf(histories.get(500L));   // 사용자별 내역 순서 유지
+        assertThat(snapshot.schedules()).containsExactlyElementsOf(schedules);
+    }
+
+    @Test
+    void 예약_구간이_없는_version_1_스냅샷도_복원한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("v1.snapshot");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeInt(PointSnapshotFile.MAGIC);
+            out.writeInt(PointSnapshotFile.V1);
+            out.writeLong(1L);      // pointCount
+            out.writeLong(2L);      // historyCount (scheduleCount 없음)
+            out.writeLong(1L);
+            out.writeLong(500L);
+            out.writeLong(1_700_000_000_000L);
+            for (long id = 1; id <= 2; id++) {
+                out.writeLong(id);
+                out.writeLong(1L);
+                out.writeLong(id * 100);
+                out.writeByte((int) id - 1);   // 0: CHARGE, 1: USE (기존 ordinal 과 같음)
+                out.writeLong(1_700_000_000_000L + id);
+            }
+        }
+
+        // when
+        PointSnapshotFile.Snapshot snapshot = PointSnapshotFile.read(path);
+
+        // then
+        assertThat(snapshot.userPoints()).containsEntry(1L, new UserPoint(1L, 500L, 1_700_000_000_000L));
+        assertThat(snapshot.histories().get(1L)).containsExactly(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1_700_000_000_001L),
+                new PointHistory(2L, 1L, 200L, TransactionType.USE, 1_700_000_000_002L));
+        assertThat(snapshot.schedules()).isEmpty();
+    }
+
+    @Test
+    void 스냅샷_형식이_아니면_실패한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("invalid.snapshot");
+        Files.write(path, new byte[PointSnapshotFile.HEADER_BYTES]);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> PointSnapshotFile.read(path));
+    }
+
+    @Test
+    void 내역_종류_코드가_잘못되면_실패한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("corrupted.snapshot");
+        PointSnapshotFile.write(path,
+                List.of(new UserPoint(1L, 100L, 1_700_000_000_000L)),
+                Map.of(1L, List.of(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1_700_000_000_000L))),
+                List.of());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[PointSnapshotFile.HEADER_BYTES + PointSnapshotFile.POINT_BYTES + 24] = 9;    // 내역의 type 위치
+        Files.write(path, bytes);
+
+        // when & then
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> PointSnapshotFile.read(path));
+        assertThat(e.getMessage()).startsWith("Corrupted point snapshot file");
+    }
+}